@@ -0,0 +1,57 @@
+package dev.rest.benchmark;
+
+import dev.rest.config.JwtTokenProvider;
+import dev.rest.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// 로그인(발급)과 인증이 필요한 모든 요청(검증)에서 실행되는 JWT 처리 비용 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "dce9a1cf98d54495aa3b44c258e54cf4");
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheMaxSize", 10_000L);
+        jwtTokenProvider.init();
+
+        user = User.fromToken(1L, "benchmark", "USER", 0);
+        token = jwtTokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String getSubject() {
+        return jwtTokenProvider.getSubject(token);
+    }
+
+    // 필터에서 사용하는 경로, 같은 토큰은 두 번째 요청부터 캐시에서 반환됨
+    @Benchmark
+    public Object verifyCached() {
+        return jwtTokenProvider.verify(token);
+    }
+}
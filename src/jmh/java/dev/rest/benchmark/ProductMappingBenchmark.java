@@ -0,0 +1,111 @@
+package dev.rest.benchmark;
+
+import dev.rest.dto.ProductResponse;
+import dev.rest.hateoas.ProductLinkTemplates;
+import dev.rest.hateoas.ProductResponseAssembler;
+import dev.rest.model.Product;
+import dev.rest.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 상품 엔티티 -> DTO 변환과 HATEOAS 링크 생성 비용 측정
+// 링크 생성은 현재 요청 정보를 사용하므로 실제 요청과 같은 MockHttpServletRequest를 스레드에 바인딩함
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMappingBenchmark {
+
+    // true: 시작 시 해석한 링크 템플릿, false: 요청마다 linkTo(methodOn(...))
+    @Param({"true", "false"})
+    private boolean precomputedLinks;
+
+    private ProductResponseAssembler assembler;
+    private Product product;
+    private ProductResponse response;
+    private Slice<ProductResponse> page;
+
+    @Setup
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assembler = new ProductResponseAssembler(new ProductLinkTemplates(), precomputedLinks);
+        User user = User.fromToken(42L, "benchmark", "USER", 0);
+        product = Product.builder()
+                .id(1L)
+                .name("맥북 프로 16인치")
+                .description("고성능 M칩을 탑재한 전문가용 노트북")
+                .price(3_500_000)
+                .stock(5)
+                .category("전자제품")
+                .user(user)
+                .build();
+        response = ProductResponse.from(product);
+        page = new SliceImpl<>(Collections.nCopies(10, response), PageRequest.of(3, 10), true);
+
+        // 상세 조회는 소유자일 때 링크가 가장 많으므로 등록자로 로그인한 상태로 측정
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public ProductResponse productResponseFrom() {
+        return ProductResponse.from(product);
+    }
+
+    @Benchmark
+    public EntityModel<ProductResponse> toModel() {
+        return assembler.toModel(response);
+    }
+
+    @Benchmark
+    public EntityModel<ProductResponse> toModelForDetail() {
+        return assembler.toModelForDetail(response, 42L);
+    }
+
+    @Benchmark
+    public EntityModel<ProductResponse> toModelForUpdate() {
+        return assembler.toModelForUpdate(response, 42L);
+    }
+
+    @Benchmark
+    public Map<String, Link> buildPaginationLinks() {
+        return assembler.buildPaginationLinks("전자제품", 3, 10, page);
+    }
+
+    // 목록 한 페이지(10건) 응답을 만드는 전체 비용
+    @Benchmark
+    public List<EntityModel<ProductResponse>> toModelPage() {
+        return page.map(assembler::toModel).getContent();
+    }
+}
@@ -0,0 +1,57 @@
+package dev.rest.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.rest.dto.ProductPageResponse;
+import dev.rest.dto.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.hateoas.Link;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// 목록 응답(ProductPageResponse)의 JSON 직렬화 비용 측정, 페이지 크기별로 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductPageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ProductPageResponse response;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트가 만드는 ObjectMapper와 같은 기본 설정 사용
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ProductResponse> products = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new ProductResponse(id, "상품 " + id, "상품 설명 " + id, 10_000, 5, "전자제품", 42L))
+                .toList();
+
+        Map<String, Link> links = new LinkedHashMap<>();
+        links.put("profile", Link.of("/swagger-ui/index.html"));
+        links.put("self", Link.of("/api/products?page=0&size=" + size));
+        links.put("next", Link.of("/api/products?page=1&size=" + size));
+
+        response = new ProductPageResponse(products, links);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,23 @@
+package dev.rest.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 같은 조회 요청을 MVC 동기 API(/api/products)와 비동기 API(/api/products/async)에 번갈아 보내서 결과를 나란히 비교
+// 느린 클라이언트가 많은 상황은 -Ploadtest.concurrency를 Tomcat 스레드 수(200)보다 크게 지정해서 확인
+class AsyncReadLoadTest extends ProductApiLoadTest {
+
+    @Override
+    protected void nextRequest(String username, String token) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean async = random.nextBoolean();
+        String basePath = async ? "/api/products/async" : "/api/products";
+        String label = async ? "GET /products/async" : "GET /products";
+
+        if (random.nextBoolean()) {
+            String category = CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+            send(label, get(basePath + "?size=20&page=" + random.nextInt(50) + "&category=" + encode(category)), 200);
+        } else {
+            send(label + "/{id}", get(basePath + "/" + (1 + random.nextLong(maxProductId))), 200);
+        }
+    }
+}
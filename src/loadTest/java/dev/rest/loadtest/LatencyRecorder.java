@@ -0,0 +1,93 @@
+package dev.rest.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 엔드포인트별 응답 시간 기록, 측정이 끝난 뒤 정렬해서 백분위수를 계산함
+class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long elapsedNanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(elapsedNanos, success);
+    }
+
+    void reset() {
+        samples.clear();
+    }
+
+    String report(double elapsedSeconds) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "%-22s %9s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+
+        samples.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(entry -> {
+                    long[] latencies = entry.getValue().sorted();
+                    report.append(String.format(Locale.ROOT, "%-22s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                            entry.getKey(),
+                            latencies.length,
+                            entry.getValue().errors,
+                            latencies.length / elapsedSeconds,
+                            millis(percentile(latencies, 50)),
+                            millis(percentile(latencies, 95)),
+                            millis(percentile(latencies, 99)),
+                            millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1])));
+                });
+
+        long total = samples.values().stream().mapToLong(Samples::count).sum();
+        report.append(String.format(Locale.ROOT, "total: %d requests, %.1f req/s%n", total, total / elapsedSeconds));
+        return report.toString();
+    }
+
+    double errorRate() {
+        long total = samples.values().stream().mapToLong(Samples::count).sum();
+        long errors = samples.values().stream().mapToLong(Samples::errors).sum();
+        return total == 0 ? 0 : (double) errors / total;
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Samples {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long elapsedNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = elapsedNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized long count() {
+            return size;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
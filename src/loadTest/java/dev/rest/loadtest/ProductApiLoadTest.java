@@ -0,0 +1,242 @@
+package dev.rest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.rest.model.Product;
+import dev.rest.model.User;
+import dev.rest.repository.ProductRepository;
+import dev.rest.repository.UserRepository;
+import dev.rest.service.ProductSearchIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 서버(랜덤 포트)를 띄우고 읽기/쓰기/로그인이 섞인 요청을 지정한 동시성으로 보내서
+// 엔드포인트별 p50/p95/p99 응답 시간과 처리량을 측정함 (./gradlew loadTest)
+// 기본 설정(플랫폼 스레드 Tomcat 풀)으로 실행, 가상 스레드 모드는 VirtualThreadLoadTest에서 같은 시나리오로 실행
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductApiLoadTest {
+
+    private static final String PASSWORD = "loadtest-password";
+    protected static final List<String> CATEGORIES = List.of("전자제품", "웨어러블", "태블릿", "게임기", "스마트폰");
+    private static final List<String> KEYWORDS = List.of("노트북", "이어폰", "스마트워치", "게임", "태블릿");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${loadtest.products}")
+    private int productCount;
+
+    @Value("${loadtest.users}")
+    private int userCount;
+
+    @Value("${loadtest.concurrency}")
+    private int concurrency;
+
+    @Value("${loadtest.warmup-seconds}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.duration-seconds}")
+    private int durationSeconds;
+
+    @Value("${spring.threads.virtual.enabled}")
+    private boolean virtualThreads;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    protected long maxProductId;
+
+    @BeforeAll
+    void seed() {
+        // 설정이 같은 하위 클래스(AsyncReadLoadTest)는 캐시된 컨텍스트와 DB를 재사용하므로 한 번만 적재
+        if (userRepository.existsByUsername("loaduser0")) {
+            maxProductId = productRepository.count();
+            return;
+        }
+
+        // BCrypt는 일부러 느리므로 해시는 한 번만 만들어서 모든 사용자에 사용
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<User> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(User.builder()
+                    .username("loaduser" + i)
+                    .password(passwordHash)
+                    .email("loaduser" + i + "@example.com")
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+
+        List<Product> chunk = new ArrayList<>(500);
+        for (int i = 0; i < productCount; i++) {
+            chunk.add(Product.builder()
+                    .name(KEYWORDS.get(i % KEYWORDS.size()) + " 모델 " + i)
+                    .description("부하 테스트용 " + KEYWORDS.get(i % KEYWORDS.size()) + " 상품")
+                    .price(10_000 + (i % 1000) * 1_000)
+                    .stock(1_000_000)
+                    .category(CATEGORIES.get(i % CATEGORIES.size()))
+                    .user(users.get(i % users.size()))
+                    .build());
+            if (chunk.size() == 500) {
+                productRepository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+        productRepository.saveAll(chunk);
+
+        productSearchIndex.rebuild(); // 앱 시작 시점에는 추가 상품이 없었으므로 다시 색인
+        maxProductId = productRepository.count();
+    }
+
+    @Test
+    @DisplayName("혼합 트래픽 부하 테스트")
+    void mixed_traffic() throws Exception {
+        run(warmupSeconds); // JIT, 커넥션 풀, 캐시 워밍업
+        recorder.reset();
+
+        long started = System.nanoTime();
+        run(durationSeconds);
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        String report = String.format("threads=%s, products=%d, users=%d, concurrency=%d, duration=%ds%n%s",
+                virtualThreads ? "virtual" : "platform", productCount, userCount, concurrency, durationSeconds,
+                recorder.report(elapsedSeconds));
+        System.out.println(report);
+
+        Path reportFile = Path.of("build", "reports", "loadtest", getClass().getSimpleName() + ".txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report);
+
+        assertThat(recorder.errorRate()).isLessThan(0.01);
+    }
+
+    private void run(int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                String username = "loaduser" + (i % userCount);
+                workers.add(executor.submit(() -> {
+                    String token = login(username);
+                    while (System.nanoTime() < deadline) {
+                        nextRequest(username, token);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // 목록/상세 조회 위주에 검색, 로그인, 등록, 재고 차감이 섞인 트래픽
+    protected void nextRequest(String username, String token) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+
+        if (roll < 35) {
+            String category = CATEGORIES.get(random.nextInt(CATEGORIES.size()));
+            send("GET /products", get("/api/products?size=20&page=" + random.nextInt(50)
+                    + "&category=" + encode(category)), 200);
+        } else if (roll < 65) {
+            send("GET /products/{id}", get("/api/products/" + (1 + random.nextLong(maxProductId))), 200);
+        } else if (roll < 75) {
+            String keyword = KEYWORDS.get(random.nextInt(KEYWORDS.size()));
+            send("GET /products/search", get("/api/products/search?size=20&q=" + encode(keyword)), 200);
+        } else if (roll < 82) {
+            login(username);
+        } else if (roll < 90) {
+            String body = """
+                    {"name":"부하 테스트 상품","description":"부하 테스트 중 등록","price":10000,"stock":100,"category":"전자제품"}""";
+            send("POST /products", post("/api/products", body, token), 201);
+        } else {
+            send("POST /stock/reservations", post("/api/products/" + (1 + random.nextLong(maxProductId))
+                    + "/stock/reservations", "{\"quantity\":1}", token), 200);
+        }
+    }
+
+    private String login(String username) throws Exception {
+        String body = "{\"username\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpResponse<String> response = send("POST /auth/login", post("/api/auth/login", body, null), 200);
+        return response.statusCode() == 200
+                ? objectMapper.readTree(response.body()).path("accessToken").asText()
+                : null;
+    }
+
+    protected HttpResponse<String> send(String endpoint, HttpRequest request, int expectedStatus) throws Exception {
+        long started = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        recorder.record(endpoint, System.nanoTime() - started, response.statusCode() == expectedStatus);
+        return response;
+    }
+
+    protected HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    protected static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,10 @@
+package dev.rest.loadtest;
+
+import org.springframework.test.context.TestPropertySource;
+
+// ProductApiLoadTest와 같은 시나리오를 가상 스레드 모드로 실행해서 플랫폼 스레드 모드와 비교
+// 두 결과는 build/reports/loadtest/ 아래에 클래스 이름별로 저장됨
+// H2는 같은 프로세스 안에서 동작해서 I/O 대기가 거의 없으므로, 실제 차이는 -Pspring.datasource.url=... 등으로 MySQL을 지정해서 확인
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadLoadTest extends ProductApiLoadTest {
+}
@@ -1,26 +1,48 @@
 package dev.rest.config;
 
+import dev.rest.model.User;
 import dev.rest.service.CustomUserDetailsService;
+import dev.rest.service.TokenRevocationList;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+
+    // 토큰 검증 + 인증 주체 생성에 걸린 시간 (토큰이 있는 요청만 기록)
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
 
     public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
-                                   CustomUserDetailsService userDetailsService) {
+                                   CustomUserDetailsService userDetailsService,
+                                   TokenRevocationList tokenRevocationList,
+                                   MeterRegistry meterRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenRevocationList = tokenRevocationList;
+        this.authenticatedTimer = authenticationTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = authenticationTimer(meterRegistry, "rejected");
+    }
+
+    private static Timer authenticationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.authentication")
+                .description("JWT validation and principal resolution time")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
@@ -30,19 +52,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String userId = jwtTokenProvider.getSubject(token); // userId를 sub에서 꺼냄
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userId); // DB 호출없이 하려면 토큰에 권한, principle등을 놓고 저장 가능
+        if (token != null) {
+            long started = System.nanoTime();
+            // 검증 캐시에 남아 있는 토큰도 폐기 목록은 매번 확인 (메모리 조회만 수행)
+            VerifiedToken verifiedToken = jwtTokenProvider.verify(token)
+                    .filter(verified -> !tokenRevocationList.isRevoked(verified.tokenId()))
+                    .orElse(null);
 
-            UsernamePasswordAuthenticationToken auth =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            User user = verifiedToken != null ? resolveUser(verifiedToken) : null;
 
-            SecurityContextHolder.getContext().setAuthentication(auth);
+            if (user != null) {
+                UsernamePasswordAuthenticationToken auth =
+                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            }
+
+            (user != null ? authenticatedTimer : rejectedTimer)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    // 인증 주체를 만들 수 없으면(토큰 버전 불일치) null 반환
+    private User resolveUser(VerifiedToken verifiedToken) {
+        String userId = verifiedToken.subject(); // userId를 sub에서 꺼냄
+        int tokenVersion = verifiedToken.tokenVersion() != null ? verifiedToken.tokenVersion() : 0;
+
+        // stateless 모드에서는 토큰에 담긴 사용자명, 권한, 토큰 버전으로 인증 주체를 만들어 DB 조회를 생략
+        // 이 경우 토큰 버전을 비교할 수 없으므로 invalidateTokens 이후에도 액세스 토큰은 만료될 때까지 사용 가능 (리프레시는 거절됨)
+        // 클레임이 없는 이전 형식의 토큰은 DB에서 조회
+        if (jwtTokenProvider.isStatelessAuthentication() && verifiedToken.username() != null) {
+            String role = verifiedToken.role() != null ? verifiedToken.role() : "USER";
+            return User.fromToken(Long.parseLong(userId), verifiedToken.username(), role, tokenVersion);
+        }
+
+        User user = (User) userDetailsService.loadUserByUsername(userId);
+        if (user.getTokenVersion() != tokenVersion) {
+            return null; // 토큰 발급 이후 사용자의 토큰이 모두 무효화됨
+        }
+        return user;
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (bearer != null && bearer.startsWith("Bearer ")) {
@@ -1,6 +1,12 @@
 package dev.rest.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import dev.rest.model.User;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,18 +18,41 @@ import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @Getter
 public class JwtTokenProvider {
 
+    public static final String CLAIM_USERNAME = "username";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     private Key key;
 
+    // JwtParser는 불변 객체라 스레드 간에 공유 가능, 요청마다 새로 만들지 않음
+    private JwtParser parser;
+
+    // 검증이 끝난 토큰 캐시 (토큰 해시 -> 클레임), 같은 토큰을 재사용하는 클라이언트는 만료 전까지 서명 검증 생략
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    // true면 필터가 DB 조회 없이 토큰 클레임으로 인증 주체를 만듦
+    @Value("${jwt.stateless-authentication:false}")
+    private boolean statelessAuthentication;
+
      private final long tokenValidityInMillis = 1000L * 60 * 60; // 1시간
 //    private final long tokenValidityInMillis = 60_000L; // 1분 (60초 * 1000ms), 만료시간 테스트용
 
@@ -31,6 +60,14 @@ public class JwtTokenProvider {
     public void init() {
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry()) // 토큰의 exp 시각에 맞춰 캐시에서도 만료
+                .recordStats()
+                .build();
     }
 
     public String generateToken(Long userId) {
@@ -39,31 +76,94 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(userId.toString())
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    // 사용자명, 권한, 토큰 버전을 클레임으로 포함해서 필터가 DB 조회 없이 인증 주체를 만들 수 있도록 함
+    public String generateToken(User user) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + tokenValidityInMillis);
+
+        return Jwts.builder()
+                .setSubject(user.getId().toString())
+                .setId(UUID.randomUUID().toString()) // 로그아웃 시 이 토큰만 폐기할 수 있도록 토큰마다 고유 ID 부여
+                .claim(CLAIM_USERNAME, user.getUsername())
+                .claim(CLAIM_ROLE, user.getRole())
+                .claim(CLAIM_TOKEN_VERSION, user.getTokenVersion())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // 검증과 클레임 추출을 한 번의 파싱으로 처리, 유효하지 않은 토큰이면 빈 값 반환
+    public Optional<VerifiedToken> verify(String token) {
+        String cacheKey = hash(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            VerifiedToken verified = VerifiedToken.from(parser.parseClaimsJws(token).getBody());
+            verifiedTokens.put(cacheKey, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    public Claims getClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
     public String getSubject(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
         }
         return false;
     }
-}
\ No newline at end of file
+
+    // 캐시에 원본 토큰을 그대로 보관하지 않도록 SHA-256 해시를 키로 사용
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.rest.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// 비밀번호 해시(BCrypt) 전용 실행기
+// 해시 계산은 CPU를 오래 쓰므로 요청 스레드에서 바로 실행하지 않고 크기가 제한된 전용 풀에서 실행함
+// 로그인이 몰려도 동시에 계산하는 해시 수는 pool-size로 제한되고, 대기열이 가득 차거나 오래 기다리면 바로 거절(503)해서
+// 나머지 요청 스레드는 상품 조회 등 다른 API를 계속 처리할 수 있음
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHashingExecutor(@Value("${auth.password.hashing.pool-size:4}") int poolSize,
+                                   @Value("${auth.password.hashing.queue-capacity:100}") int queueCapacity,
+                                   @Value("${auth.password.hashing.timeout-ms:2000}") long timeoutMillis) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hash-");
+        threadFactory.setDaemon(true);
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 대기열이 가득 차거나 timeout 안에 끝나지 않으면 RejectedExecutionException
+    public <T> T execute(Supplier<T> task) {
+        Future<T> future = executor.submit(task::get);
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RejectedExecutionException("Password hashing timed out after " + timeoutMillis + "ms");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new RejectedExecutionException("Interrupted while waiting for password hashing", e);
+        }
+    }
+
+    public int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
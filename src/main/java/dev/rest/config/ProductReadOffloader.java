@@ -0,0 +1,70 @@
+package dev.rest.config;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+// 비동기 상품 조회 API용 작업 실행기
+// 요청(서블릿) 스레드는 작업을 넘기고 바로 반환되므로 느린 클라이언트가 많아도 요청 스레드를 점유하지 않고,
+// 실제 조회는 DB 커넥션 풀 크기에 맞춘 고정 크기 스레드 풀에서만 실행됨 (대기열이 가득 차면 503)
+// Executor 타입 빈으로 등록하면 스프링 부트 기본 applicationTaskExecutor가 생성되지 않으므로 내부에서만 사용
+@Component
+public class ProductReadOffloader {
+
+    private final ThreadPoolTaskExecutor threadPool;
+    private final AsyncTaskExecutor executor;
+
+    public ProductReadOffloader(@Value("${product.async-read.pool-size:16}") int poolSize,
+                                @Value("${product.async-read.queue-capacity:10000}") int queueCapacity) {
+        this.threadPool = new ThreadPoolTaskExecutor();
+        this.threadPool.setCorePoolSize(poolSize);
+        this.threadPool.setMaxPoolSize(poolSize);
+        this.threadPool.setQueueCapacity(queueCapacity);
+        this.threadPool.setThreadNamePrefix("product-read-");
+        this.threadPool.setTaskDecorator(new RequestAttributesTaskDecorator());
+        this.threadPool.initialize();
+
+        // 상세 조회 링크가 로그인 사용자에 따라 달라지므로 SecurityContext도 작업 스레드로 전달
+        this.executor = new DelegatingSecurityContextAsyncTaskExecutor(threadPool);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        threadPool.shutdown();
+    }
+
+    // 링크 생성에 필요한 현재 요청 정보(scheme/host/port)를 작업 스레드로 전달
+    // 요청 스레드가 반환되면 기존 RequestAttributes는 완료 처리되어 속성을 읽을 수 없으므로,
+    // 비동기 처리 중에도 유효한 같은 요청 객체로 새로 만들어서 전달
+    private static class RequestAttributesTaskDecorator implements TaskDecorator {
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            RequestAttributes current = RequestContextHolder.getRequestAttributes();
+            RequestAttributes attributes = current instanceof ServletRequestAttributes servletAttributes
+                    ? new ServletRequestAttributes(servletAttributes.getRequest(), servletAttributes.getResponse())
+                    : current;
+            return () -> {
+                RequestContextHolder.setRequestAttributes(attributes);
+                try {
+                    runnable.run();
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            };
+        }
+    }
+}
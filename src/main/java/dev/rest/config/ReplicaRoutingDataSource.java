@@ -0,0 +1,97 @@
+package dev.rest.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 읽기 전용 트랜잭션이면 복제본, 그 외(쓰기 트랜잭션, 트랜잭션 없음)에는 원본 DB 커넥션을 반환
+// 읽기 전용 여부는 트랜잭션이 시작된 뒤에 설정되므로 LazyConnectionDataSourceProxy로 감싸서 첫 쿼리 시점에 판단해야 함
+// 복제본 연결에 실패하면 일정 시간 제외하고 다른 복제본을, 모두 실패하면 원본을 사용
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaRoutingProperties.LoadBalancing loadBalancing;
+    private final long failureCooldownNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    Map<String, DataSource> replicas,
+                                    ReplicaRoutingProperties.LoadBalancing loadBalancing,
+                                    Duration failureCooldown) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.loadBalancing = loadBalancing;
+        this.failureCooldownNanos = failureCooldown.toNanos();
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile long unavailableUntil;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return opener.open(primary);
+        }
+
+        int start = nextIndex();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (System.nanoTime() - replica.unavailableUntil < 0) {
+                continue;
+            }
+
+            try {
+                return opener.open(replica.dataSource);
+            } catch (SQLException e) {
+                log.warn("Read replica {} unavailable, excluding for {}s: {}",
+                        replica.name, Duration.ofNanos(failureCooldownNanos).toSeconds(), e.getMessage());
+                replica.unavailableUntil = System.nanoTime() + failureCooldownNanos;
+            }
+        }
+
+        // 사용할 수 있는 복제본이 없으면 원본에서 읽음
+        return opener.open(primary);
+    }
+
+    private int nextIndex() {
+        return switch (loadBalancing) {
+            case ROUND_ROBIN -> Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+            case RANDOM -> ThreadLocalRandom.current().nextInt(replicas.size());
+        };
+    }
+}
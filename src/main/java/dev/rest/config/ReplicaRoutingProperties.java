@@ -0,0 +1,39 @@
+package dev.rest.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+// 읽기 복제본 라우팅 설정 (datasource.routing.*), 원본 DB는 기존 spring.datasource 설정을 그대로 사용
+@ConfigurationProperties(prefix = "datasource.routing")
+public record ReplicaRoutingProperties(
+        boolean enabled,
+        LoadBalancing loadBalancing,
+        Duration failureCooldown, // 연결에 실패한 복제본을 제외하는 시간
+        List<Replica> replicas
+) {
+    public ReplicaRoutingProperties {
+        loadBalancing = (loadBalancing != null) ? loadBalancing : LoadBalancing.ROUND_ROBIN;
+        failureCooldown = (failureCooldown != null) ? failureCooldown : Duration.ofSeconds(30);
+        replicas = (replicas != null) ? List.copyOf(replicas) : List.of();
+    }
+
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            String driverClassName,
+            Integer maximumPoolSize,
+            Duration connectionTimeout // 복제본 장애 시 원본으로 넘어가기까지 기다리는 최대 시간
+    ) {
+        public Replica {
+            maximumPoolSize = (maximumPoolSize != null) ? maximumPoolSize : 10;
+            connectionTimeout = (connectionTimeout != null) ? connectionTimeout : Duration.ofSeconds(1);
+        }
+    }
+
+    public enum LoadBalancing {
+        ROUND_ROBIN, RANDOM
+    }
+}
@@ -1,13 +1,17 @@
 package dev.rest.config;
 
 import dev.rest.service.CustomUserDetailsService;
+import dev.rest.service.TokenRevocationList;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -19,6 +23,10 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+
+    // Actuator가 없는 슬라이스 테스트(@WebMvcTest)에서는 MeterRegistry 빈이 없으므로 선택적으로 주입
+    private final ObjectProvider<MeterRegistry> meterRegistry;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -28,17 +36,28 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**", "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html").permitAll()
+                        // 메트릭 수집기(Prometheus)용, 운영에서는 관리 포트/네트워크로 접근을 제한
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // 전체 내보내기는 끝날 때까지 커넥션을 점유하므로 인증된 사용자만 허용
+                        .requestMatchers(HttpMethod.GET, "/api/products/export").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/products/**").permitAll()
+                        // 캐시/재고 엔진 상태 등 운영 정보는 관리자만 조회
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated() // 그 외에는 인증 필요
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService, tokenRevocationList, meterRegistry()),
                         UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    // cost를 바꾸면 기존 사용자는 다음 로그인 때 새 cost로 재해시됨 (AuthService.login)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int bcryptStrength) {
+        return new TimedPasswordEncoder(new CostAwareBCryptPasswordEncoder(bcryptStrength), meterRegistry());
+    }
+
+    private MeterRegistry meterRegistry() {
+        return meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
     }
 }
@@ -0,0 +1,29 @@
+package dev.rest.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+
+// 서명 검증이 끝난 토큰에서 꺼낸 값, 검증 캐시에 저장되므로 불변 객체로 유지
+public record VerifiedToken(
+        String subject,
+        String tokenId, // jti, 토큰 폐기 목록 조회 키
+        String username,
+        String role,
+        Integer tokenVersion,
+        long expiresAtMillis
+) {
+    // exp가 없는 토큰은 만료되지 않고 캐시에서도 만료 시각을 정할 수 없으므로 유효하지 않은 토큰으로 처리
+    public static VerifiedToken from(Claims claims) {
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("JWT has no expiration (exp) claim");
+        }
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.getId(),
+                claims.get(JwtTokenProvider.CLAIM_USERNAME, String.class),
+                claims.get(JwtTokenProvider.CLAIM_ROLE, String.class),
+                claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Integer.class),
+                claims.getExpiration().getTime()
+        );
+    }
+}
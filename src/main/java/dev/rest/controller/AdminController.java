@@ -0,0 +1,46 @@
+package dev.rest.controller;
+
+import dev.rest.config.JwtTokenProvider;
+import dev.rest.dto.CacheStatsResponse;
+import dev.rest.dto.StockEngineStatusResponse;
+import dev.rest.service.ProductDetailCache;
+import dev.rest.service.ProductListingCache;
+import dev.rest.service.StockReservationEngine;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Tag(name = "운영 API", description = "캐시 등 애플리케이션 내부 상태 조회 API입니다. ADMIN 권한이 있는 사용자만 호출할 수 있습니다.")
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+    private final ProductDetailCache productDetailCache;
+    private final ProductListingCache productListingCache;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final StockReservationEngine stockReservationEngine;
+
+    @Operation(summary = "캐시 통계 조회", description = "인프로세스 캐시별 적중/미스/제거 횟수를 조회합니다.")
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, CacheStatsResponse>> getCacheStats() {
+        Map<String, CacheStatsResponse> stats = new LinkedHashMap<>();
+        stats.put("product-detail", CacheStatsResponse.from(productDetailCache.stats(), productDetailCache.size()));
+        stats.put("product-listing", CacheStatsResponse.from(productListingCache.stats(), productListingCache.size()));
+        stats.put("jwt-verified", CacheStatsResponse.from(
+                jwtTokenProvider.getVerifiedTokens().stats(), jwtTokenProvider.getVerifiedTokens().estimatedSize()));
+        return ResponseEntity.ok(stats);
+    }
+
+    @Operation(summary = "재고 엔진 상태 조회", description = "메모리 재고 엔진의 미반영 차감량과 보정 횟수를 조회합니다.")
+    @GetMapping("/stock-engine")
+    public ResponseEntity<StockEngineStatusResponse> getStockEngineStatus() {
+        return ResponseEntity.ok(StockEngineStatusResponse.from(stockReservationEngine));
+    }
+}
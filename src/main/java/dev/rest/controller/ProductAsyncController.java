@@ -0,0 +1,60 @@
+package dev.rest.controller;
+
+import dev.rest.config.ProductReadOffloader;
+import dev.rest.dto.ProductPageResponse;
+import dev.rest.dto.ProductResponse;
+import dev.rest.hateoas.ProductResponseAssembler;
+import dev.rest.service.ProductService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+// 상품 조회 API의 비동기 버전, 응답 형식(ProductResponse, HATEOAS 링크)은 /api/products와 같음
+// 서블릿 비동기 처리로 요청 스레드를 바로 반환하고 조회는 ProductReadOffloader의 제한된 스레드 풀에서 실행
+@Tag(name = "상품 비동기 조회 API", description = "동시 연결이 많은 클라이언트용 비동기 상품 조회 API입니다.")
+@RestController
+@RequestMapping("/api/products/async")
+@RequiredArgsConstructor
+public class ProductAsyncController {
+    private final ProductService productService;
+    private final ProductResponseAssembler assembler;
+    private final ProductReadOffloader offloader;
+
+    @Operation(summary = "상품 목록 비동기 조회", description = "GET /api/products의 페이지 조회와 같은 응답을 반환합니다.")
+    @GetMapping
+    public CompletableFuture<ResponseEntity<ProductPageResponse>> getProducts(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return offloader.supply(() -> {
+            Slice<ProductResponse> productSlice = productService.getProducts(category, PageRequest.of(page, size));
+
+            Map<String, Link> links = assembler.buildPaginationLinks(category, page, size, productSlice);
+
+            return ResponseEntity.ok(new ProductPageResponse(productSlice.getContent(), links));
+        });
+    }
+
+    @Operation(summary = "상품 상세 비동기 조회", description = "GET /api/products/{id}와 같은 응답을 반환합니다.")
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<EntityModel<ProductResponse>>> getProductById(@PathVariable Long id) {
+        return offloader.supply(() -> {
+            ProductResponse response = productService.getProductById(id);
+            return ResponseEntity.ok(assembler.toModelForDetail(response, response.userId()));
+        });
+    }
+}
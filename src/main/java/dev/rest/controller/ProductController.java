@@ -1,32 +1,51 @@
 package dev.rest.controller;
 
+import dev.rest.dto.ProductBatchResponse;
+import dev.rest.dto.ProductCursor;
+import dev.rest.dto.ProductFileFormat;
+import dev.rest.dto.ProductFilter;
+import dev.rest.dto.ProductImportResponse;
 import dev.rest.dto.ProductPageResponse;
 import dev.rest.dto.ProductRequest;
 import dev.rest.dto.ProductResponse;
+import dev.rest.dto.ProductSort;
+import dev.rest.dto.ProductUpdateItem;
+import dev.rest.dto.StockBatchReservationRequest;
+import dev.rest.dto.StockReservationItem;
+import dev.rest.dto.StockReservationRequest;
 import dev.rest.exception.ErrorResponse;
+import dev.rest.exception.InvalidQueryParameterException;
 import dev.rest.hateoas.ProductResponseAssembler;
-import dev.rest.model.Product;
 import dev.rest.model.User;
+import dev.rest.service.ProductBatchService;
+import dev.rest.service.ProductExportService;
+import dev.rest.service.ProductImportService;
 import dev.rest.service.ProductService;
+import dev.rest.service.StockService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -39,27 +58,125 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductBatchService productBatchService;
+    private final ProductExportService productExportService;
+    private final ProductImportService productImportService;
+    private final StockService stockService;
     private final ProductResponseAssembler assembler;
 
     @GetMapping
     public ResponseEntity<ProductPageResponse> getProducts(
             @RequestParam(required = false) String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @RequestParam(required = false) List<String> categories,
+            @RequestParam(required = false) Integer minPrice,
+            @RequestParam(required = false) Integer maxPrice,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(required = false) String sort
     ) {
+        boolean filtered = categories != null || minPrice != null || maxPrice != null || inStock != null || sort != null;
+
+        // after 파라미터가 있으면(빈 값 포함) 커서 기반으로 조회, 커서 조회는 id 순서와 단일 카테고리만 지원
+        if (after != null) {
+            if (filtered || withTotal) {
+                throw new InvalidQueryParameterException("after는 category, size 외의 조회 조건과 함께 사용할 수 없습니다.");
+            }
+            return ResponseEntity.ok(getProductsAfter(category, after, size));
+        }
+
+        // 가격/재고/여러 카테고리 조건이나 정렬이 있으면 DB에서 필터링
+        if (filtered) {
+            if (withTotal) {
+                throw new InvalidQueryParameterException("withTotal은 조회 조건이나 정렬과 함께 사용할 수 없습니다.");
+            }
+            List<String> allCategories = new ArrayList<>();
+            if (categories != null) {
+                allCategories.addAll(categories);
+            }
+            if (category != null) {
+                allCategories.add(category);
+            }
+            ProductFilter filter = new ProductFilter(allCategories, minPrice, maxPrice, inStock);
+            return ResponseEntity.ok(getFilteredProducts(filter, ProductSort.from(sort), page, size));
+        }
+
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Product> productPage = productService.getProducts(category, pageable);
+        Slice<ProductResponse> productSlice = productService.getProducts(category, pageable);
+
+        List<ProductResponse> productList = productSlice.getContent();
+
+        Long totalElements = withTotal ? productService.getTotalCount(category) : null;
+
+        Map<String, Link> links = assembler.buildPaginationLinks(category, page, size, productSlice);
+
+        return ResponseEntity.ok(new ProductPageResponse(productList, totalElements, links));
+    }
+
+    private ProductPageResponse getFilteredProducts(ProductFilter filter, ProductSort sort, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, sort.getSort());
 
-        List<ProductResponse> productList = productPage.getContent().stream()
-                .map(ProductResponse::from)
-                .toList();
+        Slice<ProductResponse> productSlice = productService.getFilteredProducts(filter, pageable);
 
-        Map<String, Link> links = assembler.buildPaginationLinks(category, page, size, productPage);
+        Map<String, Link> links = assembler.buildPaginationLinks(filter, sort, page, size, productSlice);
+
+        return new ProductPageResponse(productSlice.getContent(), links);
+    }
+
+    private ProductPageResponse getProductsAfter(String category, String after, int size) {
+        ProductCursor cursor = ProductCursor.decode(after);
+
+        Slice<ProductResponse> productSlice = productService.getProductsAfter(category, cursor.lastId(), size);
+
+        List<ProductResponse> productList = productSlice.getContent();
+
+        // 다음 페이지가 있으면 현재 페이지의 마지막 id를 다음 커서로 사용
+        String nextCursor = (productSlice.hasNext() && !productList.isEmpty())
+                ? ProductCursor.of(productList.get(productList.size() - 1).id()).encode()
+                : null;
+
+        Map<String, Link> links = assembler.buildPaginationLinks(category, after, size, nextCursor);
+
+        return new ProductPageResponse(productList, links);
+    }
+
+    @Operation(summary = "상품 검색", description = "상품명과 설명에서 검색어를 찾아 관련도 순으로 반환합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ProductPageResponse> searchProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        int limit = Math.min(Math.max(size, 1), 100);
+
+        List<ProductResponse> productList = productService.searchProducts(q, limit);
+        Map<String, Link> links = assembler.buildSearchLinks(q, limit);
 
         return ResponseEntity.ok(new ProductPageResponse(productList, links));
     }
 
+    @Operation(summary = "전체 상품 내보내기", description = "인증된 사용자는 전체 상품을 NDJSON(format=ndjson) 또는 CSV(format=csv)로 스트리밍할 수 있습니다. 동시에 실행할 수 있는 내보내기 수를 넘으면 429를 반환합니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportProducts(@RequestParam(defaultValue = "ndjson") String format) {
+        ProductFileFormat exportFormat = ProductFileFormat.from(format);
+
+        productExportService.acquireSlot();
+        StreamingResponseBody body = outputStream -> {
+            try {
+                productExportService.export(exportFormat, outputStream);
+            } finally {
+                productExportService.releaseSlot();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products." + exportFormat.getExtension())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EntityModel<ProductResponse>> getProductById(@PathVariable Long id) {
         ProductResponse response = productService.getProductById(id);
@@ -95,6 +212,37 @@ public class ProductController {
                 .body(model);
     }
 
+    @Operation(summary = "상품 일괄 등록", description = "여러 상품을 한 번에 등록합니다. 항목별로 검증하며 유효한 항목만 저장하고 항목별 결과를 반환합니다.")
+    @PostMapping("/batch")
+    public ResponseEntity<ProductBatchResponse> createProducts(@RequestBody List<ProductRequest> requests, @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(productBatchService.createProducts(requests, user));
+    }
+
+    @Operation(summary = "상품 일괄 수정", description = "본인이 등록한 여러 상품을 한 번에 수정하고 항목별 결과를 반환합니다.")
+    @PutMapping("/batch")
+    public ResponseEntity<ProductBatchResponse> updateProducts(@RequestBody List<ProductUpdateItem> items, @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(productBatchService.updateProducts(items, user));
+    }
+
+    @Operation(summary = "상품 가져오기", description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문을 한 줄씩 읽어 상품을 등록하고 저장/거부 건수를 반환합니다.")
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ProductImportResponse> importProducts(HttpServletRequest request, @AuthenticationPrincipal User user) throws IOException {
+        ProductFileFormat format = ProductFileFormat.fromContentType(request.getContentType());
+        return ResponseEntity.ok(productImportService.importProducts(format, request.getInputStream(), user));
+    }
+
+    @Operation(summary = "재고 차감", description = "재고가 충분할 때만 원자적으로 차감합니다. 재고가 부족하면 409를 반환합니다.")
+    @PostMapping("/{id}/stock/reservations")
+    public ResponseEntity<StockReservationItem> reserveStock(@PathVariable Long id, @Valid @RequestBody StockReservationRequest request) {
+        return ResponseEntity.ok(stockService.reserve(id, request.quantity()));
+    }
+
+    @Operation(summary = "재고 일괄 차감", description = "여러 상품의 재고를 한 번에 차감합니다. 하나라도 부족하면 전체가 취소됩니다.")
+    @PostMapping("/stock/reservations")
+    public ResponseEntity<List<StockReservationItem>> reserveStocks(@Valid @RequestBody StockBatchReservationRequest request) {
+        return ResponseEntity.ok(stockService.reserveAll(request.items()));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<EntityModel<ProductResponse>> updateProduct(
             @PathVariable Long id,
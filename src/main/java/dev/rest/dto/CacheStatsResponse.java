@@ -0,0 +1,34 @@
+package dev.rest.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "캐시 통계 응답 DTO")
+public record CacheStatsResponse(
+
+        @Schema(description = "현재 저장된 항목 수 (근사값)", example = "120")
+        long size,
+
+        @Schema(description = "캐시 적중 횟수", example = "9500")
+        long hitCount,
+
+        @Schema(description = "캐시 미스 횟수", example = "500")
+        long missCount,
+
+        @Schema(description = "적중률", example = "0.95")
+        double hitRate,
+
+        @Schema(description = "용량/만료로 제거된 항목 수", example = "30")
+        long evictionCount
+
+) {
+    public static CacheStatsResponse from(CacheStats stats, long size) {
+        return new CacheStatsResponse(
+                size,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
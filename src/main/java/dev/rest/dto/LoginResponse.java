@@ -1,5 +1,6 @@
 package dev.rest.dto;
 
 public record LoginResponse(
-        String accessToken
+        String accessToken,
+        String refreshToken
 ) {}
@@ -0,0 +1,27 @@
+package dev.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 일괄 처리 응답 DTO")
+public record ProductBatchResponse(
+
+        @Schema(description = "요청 항목 수", example = "3")
+        int total,
+
+        @Schema(description = "성공한 항목 수", example = "2")
+        int succeeded,
+
+        @Schema(description = "실패한 항목 수", example = "1")
+        int failed,
+
+        @Schema(description = "항목별 처리 결과 (요청 순서)")
+        List<ProductBatchResult> results
+
+) {
+    public static ProductBatchResponse of(List<ProductBatchResult> results) {
+        int succeeded = (int) results.stream().filter(ProductBatchResult::success).count();
+        return new ProductBatchResponse(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,30 @@
+package dev.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 처리 항목별 결과 DTO")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductBatchResult(
+
+        @Schema(description = "요청 목록에서의 위치 (0부터 시작)", example = "0")
+        int index,
+
+        @Schema(description = "상품 ID (성공한 경우)", example = "13")
+        Long id,
+
+        @Schema(description = "처리 성공 여부", example = "true")
+        boolean success,
+
+        @Schema(description = "실패 사유 (실패한 경우)", example = "name: 상품 이름은 필수입니다.")
+        String reason
+
+) {
+    public static ProductBatchResult success(int index, Long id) {
+        return new ProductBatchResult(index, id, true, null);
+    }
+
+    public static ProductBatchResult failure(int index, String reason) {
+        return new ProductBatchResult(index, null, false, reason);
+    }
+}
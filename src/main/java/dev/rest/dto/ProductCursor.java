@@ -0,0 +1,38 @@
+package dev.rest.dto;
+
+import dev.rest.exception.InvalidQueryParameterException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 커서 기반 페이지네이션에서 사용하는 불투명(opaque) 커서, 마지막으로 조회한 상품 id를 인코딩함
+public record ProductCursor(long lastId) {
+
+    // 빈 커서(after=)는 첫 페이지를 의미
+    public static final ProductCursor FIRST = new ProductCursor(0L);
+
+    public static ProductCursor of(Long lastId) {
+        return new ProductCursor(lastId);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            long lastId = Long.parseLong(decoded);
+            if (lastId < 0) {
+                throw new InvalidQueryParameterException("유효하지 않은 커서입니다.");
+            }
+            return new ProductCursor(lastId);
+        } catch (IllegalArgumentException e) { // Base64 디코딩 실패, NumberFormatException 모두 포함
+            throw new InvalidQueryParameterException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.rest.dto;
+
+import dev.rest.exception.InvalidQueryParameterException;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+public enum ProductFileFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ProductFileFormat(final MediaType mediaType, final String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ProductFileFormat from(String format) {
+        for (ProductFileFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new InvalidQueryParameterException("지원하지 않는 형식입니다: " + format);
+    }
+
+    // 가져오기 요청의 Content-Type으로 형식 판단 (text/csv가 아니면 NDJSON)
+    public static ProductFileFormat fromContentType(String contentType) {
+        if (contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(CSV.mediaType)) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
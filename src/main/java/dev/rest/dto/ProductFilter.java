@@ -0,0 +1,44 @@
+package dev.rest.dto;
+
+import dev.rest.exception.InvalidQueryParameterException;
+
+import java.util.List;
+
+// 상품 목록 필터 조건, null인 조건은 적용하지 않음
+public record ProductFilter(
+        List<String> categories,
+        Integer minPrice,
+        Integer maxPrice,
+        Boolean inStock
+) {
+    public ProductFilter {
+        categories = (categories == null) ? List.of() : categories.stream()
+                .filter(category -> category != null && !category.isBlank())
+                .distinct()
+                .toList();
+
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new InvalidQueryParameterException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && minPrice == null && maxPrice == null && inStock == null;
+    }
+
+    // 페이지 링크에 다시 붙일 쿼리 문자열 ("&categories=a&minPrice=1000" 형태)
+    public String toQueryString() {
+        StringBuilder query = new StringBuilder();
+        categories.forEach(category -> query.append("&categories=").append(category));
+        if (minPrice != null) {
+            query.append("&minPrice=").append(minPrice);
+        }
+        if (maxPrice != null) {
+            query.append("&maxPrice=").append(maxPrice);
+        }
+        if (inStock != null) {
+            query.append("&inStock=").append(inStock);
+        }
+        return query.toString();
+    }
+}
@@ -0,0 +1,30 @@
+package dev.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 가져오기 결과 응답 DTO")
+public record ProductImportResponse(
+
+        @Schema(description = "저장된 행 수", example = "9998")
+        long accepted,
+
+        @Schema(description = "거부된 행 수", example = "2")
+        long rejected,
+
+        @Schema(description = "거부된 행 목록 (최대 100건)")
+        List<RejectedRow> errors
+
+) {
+    @Schema(description = "거부된 행 정보")
+    public record RejectedRow(
+
+            @Schema(description = "행 번호 (1부터 시작, CSV는 헤더 포함)", example = "15")
+            long line,
+
+            @Schema(description = "거부 사유", example = "price: 가격은 0원 이상이어야 합니다.")
+            String reason
+
+    ) {}
+}
@@ -1,5 +1,6 @@
 package dev.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,6 +17,10 @@ public record ProductPageResponse(
         )
         List<ProductResponse> products,
 
+        @Schema(description = "전체 상품 수 (withTotal=true 요청 시에만 포함, 주기적으로 갱신되는 근사값)", example = "12")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long totalElements,
+
         @Schema(
                 description = "HATEOAS 링크 목록",
                 // Link는 HATEOAS 라이브러리 자체 API 타입이기 때문에 스키마 자동 추론이 복잡하여 example로 직접 명시
@@ -30,4 +35,8 @@ public record ProductPageResponse(
         )
         @JsonProperty("_links")
         Map<String, Link> links
-) {}
+) {
+    public ProductPageResponse(List<ProductResponse> products, Map<String, Link> links) {
+        this(products, null, links);
+    }
+}
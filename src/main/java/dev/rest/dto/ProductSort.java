@@ -0,0 +1,37 @@
+package dev.rest.dto;
+
+import dev.rest.exception.InvalidQueryParameterException;
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+// 상품 목록 정렬 옵션, 동일 값끼리의 순서가 페이지마다 바뀌지 않도록 마지막에 id로 정렬
+// id는 정렬 기준과 같은 방향으로 정렬해야 (category, price)/(name) 인덱스(InnoDB는 뒤에 id가 붙음)를 한 방향으로 읽을 수 있음
+@Getter
+public enum ProductSort {
+
+    ID("id", Sort.by(Sort.Order.asc("id"))),
+    NEWEST("newest", Sort.by(Sort.Order.desc("id"))),
+    PRICE_ASC("price_asc", Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"))),
+    PRICE_DESC("price_desc", Sort.by(Sort.Order.desc("price"), Sort.Order.desc("id"))),
+    NAME("name", Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id")));
+
+    private final String value;
+    private final Sort sort;
+
+    ProductSort(final String value, final Sort sort) {
+        this.value = value;
+        this.sort = sort;
+    }
+
+    public static ProductSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return ID;
+        }
+        for (ProductSort productSort : values()) {
+            if (productSort.value.equalsIgnoreCase(value)) {
+                return productSort;
+            }
+        }
+        throw new InvalidQueryParameterException("지원하지 않는 정렬 방식입니다: " + value);
+    }
+}
@@ -0,0 +1,19 @@
+package dev.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "상품 일괄 수정 항목 DTO")
+public record ProductUpdateItem(
+
+        @Schema(description = "수정할 상품 ID", example = "1", required = true)
+        @NotNull(message = "상품 ID는 필수입니다.")
+        Long id,
+
+        @Schema(description = "수정할 상품 정보", required = true)
+        @NotNull(message = "상품 정보는 필수입니다.")
+        @Valid
+        ProductRequest product
+
+) {}
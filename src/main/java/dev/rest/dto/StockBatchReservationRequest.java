@@ -0,0 +1,16 @@
+package dev.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+@Schema(description = "여러 상품 재고 일괄 차감 요청 DTO (장바구니 주문 등)")
+public record StockBatchReservationRequest(
+
+        @Schema(description = "차감할 상품 목록", required = true)
+        @NotEmpty(message = "차감할 상품 목록은 필수입니다.")
+        List<@Valid StockReservationItem> items
+
+) {}
@@ -0,0 +1,38 @@
+package dev.rest.dto;
+
+import dev.rest.service.StockReservationEngine;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "메모리 재고 엔진 상태 응답 DTO")
+public record StockEngineStatusResponse(
+
+        @Schema(description = "엔진 사용 여부", example = "true")
+        boolean enabled,
+
+        @Schema(description = "메모리에서 재고를 관리 중인 상품 수", example = "42")
+        int trackedProducts,
+
+        @Schema(description = "아직 DB에 반영되지 않은 차감량 합계", example = "130")
+        long pendingDelta,
+
+        @Schema(description = "지금까지 DB에 반영한 차감량 합계", example = "52000")
+        long flushedTotal,
+
+        @Schema(description = "정합성 검사에서 보정한 횟수", example = "0")
+        long driftCorrections,
+
+        @Schema(description = "DB 재고보다 커서 반영하지 못한 횟수 (차감량은 남겨 두고 다음 flush에 다시 시도)", example = "0")
+        long rejectedDeltas
+
+) {
+    public static StockEngineStatusResponse from(StockReservationEngine engine) {
+        return new StockEngineStatusResponse(
+                engine.isEnabled(),
+                engine.trackedProducts(),
+                engine.pendingDelta(),
+                engine.flushedTotal(),
+                engine.driftCorrections(),
+                engine.rejectedDeltas()
+        );
+    }
+}
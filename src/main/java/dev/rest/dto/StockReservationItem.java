@@ -0,0 +1,23 @@
+package dev.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "재고 차감 항목 DTO")
+public record StockReservationItem(
+
+        @Schema(description = "상품 ID", example = "1", required = true)
+        @NotNull(message = "상품 ID는 필수입니다.")
+        Long productId,
+
+        @Schema(description = "차감할 수량", example = "2", minimum = "1", maximum = "10000", required = true)
+        @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+        @Max(value = StockReservationItem.MAX_QUANTITY, message = "수량은 10000개 이하여야 합니다.")
+        int quantity
+
+) {
+    // 한 번에 차감할 수 있는 최대 수량 (같은 상품 항목을 합산해도 이 값을 넘을 수 없음)
+    public static final int MAX_QUANTITY = 10_000;
+}
@@ -0,0 +1,15 @@
+package dev.rest.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+@Schema(description = "재고 차감 요청 DTO")
+public record StockReservationRequest(
+
+        @Schema(description = "차감할 수량", example = "1", minimum = "1", maximum = "10000", required = true)
+        @Min(value = 1, message = "수량은 1개 이상이어야 합니다.")
+        @Max(value = StockReservationItem.MAX_QUANTITY, message = "수량은 10000개 이하여야 합니다.")
+        int quantity
+
+) {}
@@ -10,9 +10,14 @@ public enum ApiResponseCode {
     // INVALID_INPUT_VALUE(400, "R40001", "유효하지 않은 값입니다."),
     // USER_SIGNUP_FAILURE(400, "R40010-003", "가입이 불가능합니다."),
     UNAUTHORIZED(401, "R40100", "인증이 필요한 API 입니다."),
+    INVALID_REFRESH_TOKEN(401, "R40101", "유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요."),
     ACCESS_DENIED(403, "R40300", "접근이 허용되지 않습니다."),
     DATA_NOT_FOUND(404, "R40402", "데이터가 존재하지 않습니다."),
-    INTERNAL_SERVER_ERROR(500, "R50000", "처리 중 오류가 발생했습니다.");
+    CONFLICT(409, "R40900", "다른 요청에 의해 데이터가 변경되었습니다. 다시 시도해주세요."),
+    OUT_OF_STOCK(409, "R40901", "재고가 부족합니다."),
+    TOO_MANY_REQUESTS(429, "R42900", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    INTERNAL_SERVER_ERROR(500, "R50000", "처리 중 오류가 발생했습니다."),
+    SERVICE_UNAVAILABLE(503, "R50300", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final String code;
     private final String message;
@@ -0,0 +1,7 @@
+package dev.rest.exception;
+
+public class BatchLimitExceededException extends RuntimeException {
+    public BatchLimitExceededException(int maxItems) {
+        super("한 번에 처리할 수 있는 항목은 최대 " + maxItems + "개입니다.");
+    }
+}
@@ -0,0 +1,7 @@
+package dev.rest.exception;
+
+public class ExportLimitExceededException extends RuntimeException {
+    public ExportLimitExceededException() {
+        super("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,7 @@
+package dev.rest.exception;
+
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(Long productId) {
+        super(ApiResponseCode.OUT_OF_STOCK.getMessage());
+    }
+}
@@ -0,0 +1,7 @@
+package dev.rest.exception;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException() {
+        super(ApiResponseCode.INVALID_REFRESH_TOKEN.getMessage());
+    }
+}
@@ -0,0 +1,7 @@
+package dev.rest.exception;
+
+public class InvalidStockQuantityException extends RuntimeException {
+    public InvalidStockQuantityException(Long productId) {
+        super("상품 " + productId + "의 차감 수량 합계가 허용 범위를 벗어났습니다.");
+    }
+}
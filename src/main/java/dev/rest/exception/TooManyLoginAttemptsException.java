@@ -0,0 +1,14 @@
+package dev.rest.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyLoginAttemptsException(long retryAfterSeconds) {
+        super(ApiResponseCode.TOO_MANY_REQUESTS.getMessage());
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,89 @@
+package dev.rest.hateoas;
+
+import dev.rest.controller.ProductController;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+// 상품 링크 템플릿을 시작 시 컨트롤러 매핑에서 한 번만 해석해 두고, 요청마다 문자열 치환으로 링크를 만듦
+// linkTo(methodOn(...))는 호출마다 프록시 생성과 매핑 해석을 반복하므로 응답마다 여러 번 호출하면 비용이 큼
+@Component
+public class ProductLinkTemplates {
+
+    private static final String BASE_URI_ATTRIBUTE = ProductLinkTemplates.class.getName() + ".BASE_URI";
+
+    private final IdTemplate product;
+    private final IdTemplate update;
+    private final IdTemplate delete;
+    private final String list;
+    private final String listPath;
+
+    public ProductLinkTemplates() {
+        // 요청 컨텍스트가 없는 시점에 해석하므로 호스트 없이 경로만 남고, 호스트는 요청마다 앞에 붙임
+        this.product = IdTemplate.of(linkTo(methodOn(ProductController.class).getProductById(null)).withSelfRel().getHref());
+        this.update = IdTemplate.of(linkTo(methodOn(ProductController.class).updateProduct(null, null, null)).withSelfRel().getHref());
+        this.delete = IdTemplate.of(linkTo(methodOn(ProductController.class).deleteProduct(null, null)).withSelfRel().getHref());
+        this.list = linkTo(methodOn(ProductController.class).getProducts(null, 0, 10, null, false, null, null, null, null, null))
+                .withSelfRel().getHref();
+        this.listPath = linkTo(ProductController.class).withSelfRel().getHref();
+    }
+
+    public Link product(Long id) {
+        return Link.of(baseUri() + product.expand(id));
+    }
+
+    public Link update(Long id) {
+        return Link.of(baseUri() + update.expand(id));
+    }
+
+    public Link delete(Long id) {
+        return Link.of(baseUri() + delete.expand(id));
+    }
+
+    public Link list() {
+        return Link.of(baseUri() + list);
+    }
+
+    // 페이지 링크용 목록 경로 (상대 경로)
+    public String listPath() {
+        return listPath;
+    }
+
+    // 요청의 scheme/host/port는 요청당 한 번만 계산해서 요청 속성에 보관
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "";
+        }
+
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+
+    // "{id}" 변수 하나만 있는 템플릿, 앞뒤 문자열을 미리 나눠 두고 id만 끼워 넣음
+    private record IdTemplate(String prefix, String suffix) {
+
+        private static final String VARIABLE = "{id}";
+
+        static IdTemplate of(String template) {
+            int index = template.indexOf(VARIABLE);
+            if (index < 0) {
+                throw new IllegalStateException("Link template has no {id} variable: " + template);
+            }
+            return new IdTemplate(template.substring(0, index), template.substring(index + VARIABLE.length()));
+        }
+
+        String expand(Long id) {
+            return prefix + id + suffix;
+        }
+    }
+}
@@ -2,12 +2,16 @@ package dev.rest.hateoas;
 
 import dev.rest.config.AuthUtils;
 import dev.rest.controller.ProductController;
+import dev.rest.dto.ProductFilter;
 import dev.rest.dto.ProductResponse;
-import org.springframework.data.domain.Page;
+import dev.rest.dto.ProductSort;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -17,17 +21,28 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.*;
 @Component
 public class ProductResponseAssembler implements RepresentationModelAssembler<ProductResponse, EntityModel<ProductResponse>> {
 
+    private final ProductLinkTemplates linkTemplates;
+
+    // true면 시작 시 해석해 둔 링크 템플릿 사용, false면 요청마다 linkTo(methodOn(...))으로 생성
+    private final boolean precomputedLinks;
+
+    public ProductResponseAssembler(ProductLinkTemplates linkTemplates,
+                                    @Value("${product.links.precomputed:true}") boolean precomputedLinks) {
+        this.linkTemplates = linkTemplates;
+        this.precomputedLinks = precomputedLinks;
+    }
+
     // 모든 API 응답에 공통적으로 포함되어야할 링크 설정 메서드
     @Override
     public EntityModel<ProductResponse> toModel(ProductResponse product) {
         return EntityModel.of(product,
-                linkTo(methodOn(ProductController.class).getProductById(product.id())).withSelfRel(),
+                productLink(product.id()).withSelfRel(),
                 Link.of("/swagger-ui/index.html", "profile")  // API 문서 링크
         );
     }
 
-    public Map<String, Link> buildPaginationLinks(String category, int page, int size, Page<?> productPage) {
-        String basePath = "/api/products";
+    public Map<String, Link> buildPaginationLinks(String category, int page, int size, Slice<?> productPage) {
+        String basePath = linkTemplates.listPath();
         String categoryQuery = (category != null && !category.isBlank()) ? "&category=" + category : "";
 
         Map<String, Link> links = new LinkedHashMap<>();
@@ -44,14 +59,63 @@ public class ProductResponseAssembler implements RepresentationModelAssembler<Pr
         return links;
     }
 
+    // 커서 기반 페이지네이션 링크, keyset 조회는 앞으로만 이동하므로 prev 링크는 제공하지 않음
+    public Map<String, Link> buildPaginationLinks(String category, String after, int size, String nextCursor) {
+        String basePath = linkTemplates.listPath();
+        String categoryQuery = (category != null && !category.isBlank()) ? "&category=" + category : "";
+
+        Map<String, Link> links = new LinkedHashMap<>();
+        links.put("profile", Link.of("/swagger-ui/index.html"));
+        links.put("self", Link.of(basePath + "?after=" + after + "&size=" + size + categoryQuery));
+
+        if (nextCursor != null) {
+            links.put("next", Link.of(basePath + "?after=" + nextCursor + "&size=" + size + categoryQuery));
+        }
+
+        return links;
+    }
+
+    // 필터/정렬 조건이 있는 목록의 페이지 링크, 다음/이전 페이지에도 같은 조건을 유지
+    public Map<String, Link> buildPaginationLinks(ProductFilter filter, ProductSort sort, int page, int size, Slice<?> productPage) {
+        String basePath = linkTemplates.listPath();
+        String filterQuery = filter.toQueryString() + "&sort=" + sort.getValue();
+
+        Map<String, Link> links = new LinkedHashMap<>();
+        links.put("profile", Link.of("/swagger-ui/index.html"));
+        links.put("self", Link.of(basePath + "?page=" + page + "&size=" + size + filterQuery));
+
+        if (productPage.hasNext()) {
+            links.put("next", Link.of(basePath + "?page=" + (page + 1) + "&size=" + size + filterQuery));
+        }
+        if (productPage.hasPrevious()) {
+            links.put("prev", Link.of(basePath + "?page=" + (page - 1) + "&size=" + size + filterQuery));
+        }
+
+        return links;
+    }
+
+    public Map<String, Link> buildSearchLinks(String query, int size) {
+        Map<String, Link> links = new LinkedHashMap<>();
+        links.put("profile", Link.of("/swagger-ui/index.html"));
+        // 검색어는 사용자 입력이므로 변수로 넘겨 엄격하게 인코딩 (&, #, %, +, 공백, {} 등이 href나 URI 템플릿을 깨지 않도록)
+        String href = UriComponentsBuilder.fromPath("/api/products/search")
+                .queryParam("q", "{q}")
+                .queryParam("size", size)
+                .encode()
+                .buildAndExpand(query)
+                .toUriString();
+        links.put("self", Link.of(href));
+        return links;
+    }
+
     // 상품 등록 API에만 포함되어야할 링크 설정 메서드
     public EntityModel<ProductResponse> toModelForCreate(ProductResponse product) {
         EntityModel<ProductResponse> baseModel = toModel(product); // 공통 링크는 무조건 포함되도록 지정
 
         // 상품 등록 API에만 포함될 링크들 지정
-        baseModel.add(linkTo(methodOn(ProductController.class).getProducts(null, 0, 10)).withRel("list-products").withType("GET"));
-        baseModel.add(linkTo(methodOn(ProductController.class).updateProduct(product.id(), null, null)).withRel("update-product").withType("PUT"));
-        baseModel.add(linkTo(methodOn(ProductController.class).deleteProduct(product.id(), null)).withRel("delete-product").withType("DELETE"));
+        baseModel.add(listLink().withRel("list-products").withType("GET"));
+        baseModel.add(updateLink(product.id()).withRel("update-product").withType("PUT"));
+        baseModel.add(deleteLink(product.id()).withRel("delete-product").withType("DELETE"));
 
         return baseModel;
     }
@@ -61,9 +125,9 @@ public class ProductResponseAssembler implements RepresentationModelAssembler<Pr
 
         Long currentUserId = AuthUtils.getCurrentUserId();
         if (currentUserId != null && currentUserId.equals(creatorId)) {
-            baseModel.add(linkTo(methodOn(ProductController.class).updateProduct(product.id(), null, null))
+            baseModel.add(updateLink(product.id())
                     .withRel("update-product").withType("PUT"));
-            baseModel.add(linkTo(methodOn(ProductController.class).deleteProduct(product.id(), null))
+            baseModel.add(deleteLink(product.id())
                     .withRel("delete-product").withType("DELETE"));
         }
 
@@ -73,14 +137,14 @@ public class ProductResponseAssembler implements RepresentationModelAssembler<Pr
     public EntityModel<ProductResponse> toModelForUpdate(ProductResponse product, Long currentUserId) {
         EntityModel<ProductResponse> baseModel = toModel(product);
 
-        baseModel.add(linkTo(methodOn(ProductController.class).getProductById(product.id()))
+        baseModel.add(productLink(product.id())
                 .withRel("self").withType("GET"));
-        baseModel.add(linkTo(methodOn(ProductController.class).getProducts(null, 0, 10))
+        baseModel.add(listLink()
                 .withRel("list-products").withType("GET"));
 
         // 상품 소유자일 경우에만 삭제 링크 포함
         if (currentUserId != null && currentUserId.equals(product.userId())) {
-            baseModel.add(linkTo(methodOn(ProductController.class).deleteProduct(product.id(), null))
+            baseModel.add(deleteLink(product.id())
                     .withRel("delete-product").withType("DELETE"));
         }
 
@@ -90,10 +154,33 @@ public class ProductResponseAssembler implements RepresentationModelAssembler<Pr
     public EntityModel<ProductResponse> toModelForDelete(ProductResponse product) {
         EntityModel<ProductResponse> baseModel = toModel(product);
 
-        baseModel.add(linkTo(methodOn(ProductController.class).getProducts(null, 0, 10))
+        baseModel.add(listLink()
                 .withRel("list-products").withType("GET"));
 
         return baseModel;
     }
 
+    private Link productLink(Long id) {
+        return precomputedLinks
+                ? linkTemplates.product(id)
+                : linkTo(methodOn(ProductController.class).getProductById(id)).withSelfRel();
+    }
+
+    private Link updateLink(Long id) {
+        return precomputedLinks
+                ? linkTemplates.update(id)
+                : linkTo(methodOn(ProductController.class).updateProduct(id, null, null)).withSelfRel();
+    }
+
+    private Link deleteLink(Long id) {
+        return precomputedLinks
+                ? linkTemplates.delete(id)
+                : linkTo(methodOn(ProductController.class).deleteProduct(id, null)).withSelfRel();
+    }
+
+    private Link listLink() {
+        return precomputedLinks
+                ? linkTemplates.list()
+                : linkTo(methodOn(ProductController.class).getProducts(null, 0, 10, null, false, null, null, null, null, null)).withSelfRel();
+    }
 }
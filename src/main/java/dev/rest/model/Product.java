@@ -11,11 +11,19 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Getter
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_category_id", columnList = "category, id"), // 카테고리별 keyset 조회용
+        @Index(name = "idx_products_category_price", columnList = "category, price"), // 카테고리 + 가격 범위/정렬 조회용
+        @Index(name = "idx_products_price", columnList = "price"), // 카테고리 없이 가격 범위/정렬 조회용
+        @Index(name = "idx_products_name", columnList = "name") // 이름순 정렬(sort=name) 조회용
+})
 @Builder
 public class Product {
+    // IDENTITY 전략은 insert마다 id를 받아와야 해서 JDBC 배치가 비활성화됨
+    // 시퀀스(MySQL에서는 테이블로 에뮬레이션)에서 50개씩 미리 할당받아 배치 insert가 가능하도록 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -23,6 +31,10 @@ public class Product {
     private int price;
     private int stock;
     private String category;
+
+    // 수정(findById + save) 중에 재고 차감 등 다른 변경이 끼어들면 덮어쓰지 않고 실패하도록 낙관적 잠금 사용
+    @Version
+    private Long version;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
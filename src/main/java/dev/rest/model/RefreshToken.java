@@ -0,0 +1,57 @@
+package dev.rest.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 리프레시 토큰, 원본 값은 저장하지 않고 SHA-256 해시만 보관
+// 같은 로그인에서 회전(rotation)으로 이어진 토큰은 familyId를 공유하며, 이미 사용한 토큰이 다시 오면 family 전체를 폐기
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family_id", columnList = "familyId"), // 재사용 감지 시 family 단위 폐기용
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expiresAt") // 만료 토큰 정리용
+})
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 44)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    // 발급 시점의 사용자 토큰 버전, 사용자의 토큰 버전이 올라가면 이 토큰도 무효
+    @Column(nullable = false)
+    private int tokenVersion;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    // 회전에 사용된 시각, 값이 있는 토큰이 다시 오면 탈취된 것으로 판단
+    private Instant usedAt;
+
+    public static RefreshToken issue(String tokenHash, String familyId, User user, Instant expiresAt) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.tokenHash = tokenHash;
+        refreshToken.familyId = familyId;
+        refreshToken.user = user;
+        refreshToken.tokenVersion = user.getTokenVersion();
+        refreshToken.expiresAt = expiresAt;
+        return refreshToken;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,35 @@
+package dev.rest.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 만료 전에 폐기된 액세스 토큰 (jti), 각 인스턴스가 id 순으로 새 행만 읽어서 메모리 폐기 목록에 반영
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expiresAt") // 만료 행 정리용
+})
+public class RevokedToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    // 원래 토큰의 만료 시각, 이후에는 서명 검증에서 거절되므로 목록에서 제거
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    public static RevokedToken of(String tokenId, Instant expiresAt) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.tokenId = tokenId;
+        revokedToken.expiresAt = expiresAt;
+        return revokedToken;
+    }
+}
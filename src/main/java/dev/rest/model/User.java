@@ -4,34 +4,50 @@ import dev.rest.dto.SignupRequest;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Builder
 @Entity
+@Table(name = "user", uniqueConstraints = {
+        @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+        @UniqueConstraint(name = "uk_user_email", columnNames = "email")
+})
 @ToString
 public class User implements UserDetails {
+    // 가입 시 어떤 유니크 제약을 위반했는지 구분하기 위해 이름을 고정
+    public static final String USERNAME_CONSTRAINT = "uk_user_username";
+
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String username;
 
     @Column(nullable = false)
     private String password;
 
-    @Column(unique = true)
     private String email;
 
-    private final String role = "USER";
+    // 권한 이름 (USER, ADMIN), Spring Security 권한으로는 ROLE_ 접두사를 붙여서 사용
+    @Builder.Default
+    @Column(nullable = false)
+    private String role = "USER";
+
+    // 토큰 버전, 올리면 이전에 발급된 토큰을 무효화할 수 있음 (invalidateTokens)
+    @Column(nullable = false)
+    private int tokenVersion;
 
     private final LocalDateTime createdAt = LocalDateTime.now();
 
@@ -43,11 +59,31 @@ public class User implements UserDetails {
         return user;
     }
 
+    // 해시 cost 변경 등으로 비밀번호를 다시 해시한 경우
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+
+    // 이미 발급된 액세스/리프레시 토큰을 모두 무효화 (토큰의 버전과 달라지므로 다음 검사에서 거절됨)
+    public void invalidateTokens() {
+        this.tokenVersion++;
+    }
+
+    // 검증된 JWT 클레임만으로 만드는 인증 주체 (DB 조회 없이 생성, 비밀번호는 포함하지 않음)
+    public static User fromToken(Long id, String username, String role, int tokenVersion) {
+        User user = new User();
+        user.id = id;
+        user.username = username;
+        user.role = role;
+        user.tokenVersion = tokenVersion;
+        return user;
+    }
+
     // --- UserDetails 구현 ---
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.emptyList();
+        return role != null ? List.of(new SimpleGrantedAuthority("ROLE_" + role)) : Collections.emptyList();
     }
 
     @Override public String getUsername() { return username; }
@@ -0,0 +1,7 @@
+package dev.rest.repository;
+
+// 카테고리별 상품 수 집계 결과 프로젝션
+public interface CategoryCount {
+    String getCategory();
+    long getCount();
+}
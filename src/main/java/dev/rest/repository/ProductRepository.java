@@ -1,11 +1,77 @@
 package dev.rest.repository;
 
+import dev.rest.dto.ProductResponse;
 import dev.rest.model.Product;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-    Page<Product> findByCategory(String category, Pageable pageable);
-}
\ No newline at end of file
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    // 목록 조회는 엔티티 대신 응답 DTO로 바로 조회: 영속성 컨텍스트에 엔티티/스냅샷이 쌓이지 않고,
+    // p.user.id는 products.user_id 컬럼에서 읽으므로 User 조인이나 프록시 초기화(N+1)가 없음
+    String SELECT_PRODUCT_RESPONSE = "select new dev.rest.dto.ProductResponse("
+            + "p.id, p.name, p.description, p.price, p.stock, p.category, p.user.id) from Product p ";
+
+    // Page 대신 Slice로 반환해서 COUNT 쿼리 없이 size + 1건만 조회
+    @Transactional(readOnly = true)
+    @Query(SELECT_PRODUCT_RESPONSE)
+    Slice<ProductResponse> findAllResponses(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_PRODUCT_RESPONSE + "where p.category = :category")
+    Slice<ProductResponse> findResponsesByCategory(@Param("category") String category, Pageable pageable);
+
+    // keyset 조회: afterId 이후의 상품만 id 순으로 size + 1건 조회해서 다음 페이지 여부를 판단
+    @Transactional(readOnly = true)
+    @Query(SELECT_PRODUCT_RESPONSE + "where p.id > :afterId order by p.id")
+    Slice<ProductResponse> findResponsesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(SELECT_PRODUCT_RESPONSE + "where p.category = :category and p.id > :afterId order by p.id")
+    Slice<ProductResponse> findResponsesByCategoryAfter(@Param("category") String category,
+                                                        @Param("afterId") Long afterId,
+                                                        Pageable pageable);
+
+    // 검색 결과처럼 id 목록으로 조회할 때 사용
+    @Transactional(readOnly = true)
+    @Query(SELECT_PRODUCT_RESPONSE + "where p.id in :ids")
+    List<ProductResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByCategory(String category);
+
+    @Query("select p.category as category, count(p) as count from Product p group by p.category")
+    List<CategoryCount> countGroupByCategory();
+
+    // 내보내기용 전방향 커서 조회: 엔티티 대신 DTO로 바로 조회해서 영속성 컨텍스트에 쌓이지 않도록 함
+    // MySQL은 useCursorFetch=true일 때 fetch size 단위로 나눠서 가져옴
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(SELECT_PRODUCT_RESPONSE + "order by p.id")
+    Stream<ProductResponse> streamAllForExport();
+
+    // 재고가 충분할 때만 원자적으로 차감, 차감된 행 수(0 또는 1) 반환
+    @Modifying
+    @Query("update Product p set p.stock = p.stock - :quantity, p.version = p.version + 1 "
+            + "where p.id = :id and :quantity > 0 and p.stock >= :quantity") // 음수 수량으로 재고가 늘어나지 않도록
+    int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Query("select p.stock from Product p where p.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
+
+    // 메모리 재고 엔진이 모아 둔 차감량을 반영, DB 재고보다 큰 차감량은 반영하지 않음 (0 반환)
+    @Modifying
+    @Query("update Product p set p.stock = p.stock - :delta, p.version = p.version + 1 where p.id = :id and p.stock >= :delta")
+    int applyStockDelta(@Param("id") Long id, @Param("delta") int delta);
+}
@@ -0,0 +1,11 @@
+package dev.rest.repository;
+
+import dev.rest.dto.ProductFilter;
+import dev.rest.dto.ProductResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface ProductRepositoryCustom {
+
+    Slice<ProductResponse> findByFilter(ProductFilter filter, Pageable pageable);
+}
@@ -0,0 +1,83 @@
+package dev.rest.repository;
+
+import dev.rest.dto.ProductFilter;
+import dev.rest.dto.ProductResponse;
+import dev.rest.exception.InvalidQueryParameterException;
+import dev.rest.model.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    // 조건에 맞는 상품을 size + 1건 조회해서 다음 페이지 여부를 판단 (COUNT 쿼리 없음)
+    // 목록 조회와 같이 엔티티 대신 응답 DTO로 바로 조회
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse> findByFilter(ProductFilter filter, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductResponse> query = cb.createQuery(ProductResponse.class);
+        Root<Product> product = query.from(Product.class);
+
+        query.select(cb.construct(ProductResponse.class,
+                        product.get("id"),
+                        product.get("name"),
+                        product.get("description"),
+                        product.get("price"),
+                        product.get("stock"),
+                        product.get("category"),
+                        product.get("user").get("id")))
+                .where(toPredicates(filter, cb, product))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), product, cb));
+
+        // page * size가 int 범위를 넘으면 음수 offset이 되지 않도록 거절
+        if (pageable.getOffset() > Integer.MAX_VALUE) {
+            throw new InvalidQueryParameterException("페이지 번호가 너무 큽니다.");
+        }
+
+        List<ProductResponse> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    private Predicate[] toPredicates(ProductFilter filter, CriteriaBuilder cb, Root<Product> product) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (!filter.categories().isEmpty()) {
+            predicates.add(filter.categories().size() == 1
+                    ? cb.equal(product.get("category"), filter.categories().get(0))
+                    : product.get("category").in(filter.categories()));
+        }
+        if (filter.minPrice() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(product.<Integer>get("price"), filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            predicates.add(cb.lessThanOrEqualTo(product.<Integer>get("price"), filter.maxPrice()));
+        }
+        if (filter.inStock() != null) {
+            predicates.add(filter.inStock()
+                    ? cb.greaterThan(product.<Integer>get("stock"), 0)
+                    : cb.equal(product.get("stock"), 0));
+        }
+
+        return predicates.toArray(new Predicate[0]);
+    }
+}
@@ -0,0 +1,23 @@
+package dev.rest.repository;
+
+import dev.rest.model.RevokedToken;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    // 마지막으로 읽은 id 이후에 추가된 만료 전 행만 조회 (증분 갱신)
+    List<RevokedToken> findByIdGreaterThanAndExpiresAtAfterOrderById(Long afterId, Instant now, Limit limit);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -1,11 +1,19 @@
 package dev.rest.repository;
 
 import dev.rest.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
+
+    // 마지막으로 읽은 id 이후에 가입한 사용자명만 조회 (사용자명 캐시 적재/증분 갱신)
+    @Query("select u.id as id, u.username as username from User u where u.id > :afterId order by u.id")
+    List<UsernameEntry> findUsernamesAfter(@Param("afterId") Long afterId, Limit limit);
 }
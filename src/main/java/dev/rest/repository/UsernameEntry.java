@@ -0,0 +1,7 @@
+package dev.rest.repository;
+
+// 사용자명 캐시 적재용 프로젝션 (엔티티 전체를 읽지 않음)
+public interface UsernameEntry {
+    Long getId();
+    String getUsername();
+}
@@ -1,16 +1,26 @@
 package dev.rest.service;
 
 import dev.rest.config.JwtTokenProvider;
+import dev.rest.config.PasswordHashingExecutor;
 import dev.rest.dto.LoginRequest;
+import dev.rest.dto.LoginResponse;
 import dev.rest.dto.SignupRequest;
 import dev.rest.dto.SignupResponse;
 import dev.rest.model.User;
 import dev.rest.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -18,27 +28,103 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final UsernameLookupCache usernameLookupCache;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 비밀번호 해시는 트랜잭션(커넥션) 밖에서 먼저 계산하고, 중복 확인과 저장만 짧은 트랜잭션으로 묶음
+    // 해시 대기 중에 커넥션을 점유하면 가입이 몰릴 때 커넥션 풀이 고갈됨 (로그인과 같은 이유)
     public SignupResponse signup(SignupRequest request) {
-        if (userRepository.existsByUsername(request.username())) {
+        // 캐시로 판단할 수 있으면 해시 계산과 DB 조회를 모두 생략
+        if (usernameLookupCache.isKnownTaken(request.username())) {
             throw new IllegalArgumentException("이미 사용 중인 사용자 이름입니다.");
         }
 
-        User user = User.create(request, passwordEncoder);
+        // 비밀번호 해시는 전용 실행기에서 계산
+        User user = passwordHashingExecutor.execute(() -> User.create(request, passwordEncoder));
+
+        User saved;
+        try {
+            saved = transactionTemplate.execute(status -> persist(user));
+        } catch (DataIntegrityViolationException e) {
+            // 이메일 중복 등 다른 제약 위반은 사용자명과 무관하므로 그대로 전달
+            if (!isUsernameConstraintViolation(e)) {
+                throw e;
+            }
+            usernameLookupCache.markTaken(request.username());
+            throw new IllegalArgumentException("이미 사용 중인 사용자 이름입니다.");
+        }
 
-        User saved = userRepository.save(user);
+        usernameLookupCache.add(saved.getUsername());
         return SignupResponse.from(saved);
     }
 
-    public String login(LoginRequest request) {
+    // Bloom filter가 "없음"이라고 한 경우는 중복 확인 쿼리를 생략하고 유니크 제약으로 최종 확인
+    private User persist(User user) {
+        if (!usernameLookupCache.isDefinitelyAbsent(user.getUsername())
+                && userRepository.existsByUsername(user.getUsername())) {
+            usernameLookupCache.markTaken(user.getUsername());
+            throw new IllegalArgumentException("이미 사용 중인 사용자 이름입니다.");
+        }
+        return userRepository.save(user); // IDENTITY 전략이라 save 시점에 insert되어 제약 위반이 바로 드러남
+    }
+
+    public LoginResponse login(LoginRequest request) {
+        loginRateLimiter.check(request.username());
+
         User user = userRepository.findByUsername(request.username())
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
 
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        boolean matches = passwordHashingExecutor.execute(
+                () -> passwordEncoder.matches(request.password(), user.getPassword()));
+        if (!matches) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다.");
         }
 
-        return jwtTokenProvider.generateToken(user.getId());
+        rehashIfNeeded(user, request.password());
+
+        return new LoginResponse(jwtTokenProvider.generateToken(user), refreshTokenService.issue(user));
+    }
+
+    // 비밀번호 검증 없이 리프레시 토큰으로 액세스 토큰 재발급, 리프레시 토큰도 새 값으로 교체됨
+    public LoginResponse refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        return new LoginResponse(jwtTokenProvider.generateToken(rotation.user()), rotation.refreshToken());
+    }
+
+    // 리프레시 토큰 family를 폐기하고, 함께 전달된 액세스 토큰은 만료 전이라도 바로 사용할 수 없도록 폐기 목록에 추가
+    public void logout(String refreshToken, String accessToken) {
+        refreshTokenService.revoke(refreshToken);
+
+        if (accessToken != null) {
+            jwtTokenProvider.verify(accessToken).ifPresent(verified ->
+                    tokenRevocationList.revoke(verified.tokenId(), Instant.ofEpochMilli(verified.expiresAtMillis())));
+        }
+    }
+
+    // 제약 이름은 DB마다 테이블명/인덱스 접미사가 붙어서 전달되므로 포함 여부로 판단
+    private static boolean isUsernameConstraintViolation(DataIntegrityViolationException e) {
+        String constraintName = e.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName() : null;
+        String detail = constraintName != null ? constraintName : e.getMostSpecificCause().getMessage();
+        return detail != null && detail.toLowerCase(Locale.ROOT).contains(User.USERNAME_CONSTRAINT);
+    }
+
+    // 저장된 해시의 cost가 현재 설정과 다르면 로그인에 성공한 비밀번호로 다시 해시
+    // 재해시가 거절되어도 로그인은 성공으로 처리하고 다음 로그인 때 다시 시도
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+
+        try {
+            user.changePassword(passwordHashingExecutor.execute(() -> passwordEncoder.encode(rawPassword)));
+            userRepository.save(user);
+        } catch (RejectedExecutionException e) {
+            log.warn("Skipped password rehash for user {}: {}", user.getId(), e.getMessage());
+        }
     }
 }
@@ -0,0 +1,43 @@
+package dev.rest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.rest.exception.TooManyLoginAttemptsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자명별 로그인 시도 횟수 제한 (window 동안 max-attempts회)
+// 비밀번호 해시 계산 전에 확인해서 한 계정에 대한 반복 시도가 해시 실행기를 차지하지 않도록 함
+@Component
+public class LoginRateLimiter {
+
+    private final int maxAttempts;
+    private final Duration window;
+
+    // 사용자명 -> 현재 window의 시도 횟수, 첫 시도 후 window가 지나면 제거됨
+    private final Cache<String, AtomicInteger> attempts;
+
+    public LoginRateLimiter(@Value("${auth.login-rate-limit.max-attempts:10}") int maxAttempts,
+                            @Value("${auth.login-rate-limit.window-seconds:60}") long windowSeconds) {
+        this.maxAttempts = maxAttempts;
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.attempts = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void check(String username) {
+        if (username == null) {
+            return;
+        }
+
+        AtomicInteger count = attempts.get(username, key -> new AtomicInteger());
+        if (count.incrementAndGet() > maxAttempts) {
+            throw new TooManyLoginAttemptsException(window.toSeconds());
+        }
+    }
+}
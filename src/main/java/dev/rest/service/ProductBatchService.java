@@ -0,0 +1,225 @@
+package dev.rest.service;
+
+import dev.rest.dto.ProductBatchResponse;
+import dev.rest.dto.ProductBatchResult;
+import dev.rest.dto.ProductRequest;
+import dev.rest.dto.ProductResponse;
+import dev.rest.dto.ProductUpdateItem;
+import dev.rest.exception.BatchLimitExceededException;
+import dev.rest.model.Product;
+import dev.rest.model.User;
+import dev.rest.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 상품 일괄 등록/수정
+// 항목별로 검증한 뒤 유효한 항목만 chunk 단위 트랜잭션으로 저장하고, 항목별 처리 결과를 반환함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBatchService {
+
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ProductDetailCache productDetailCache;
+    private final ProductListingCache productListingCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final StockReservationEngine stockReservationEngine;
+
+    // hibernate.jdbc.batch_size와 맞춰서 chunk 하나가 배치 하나로 전송되도록 함
+    @Value("${product.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${product.batch.max-items:10000}")
+    private int maxItems;
+
+    public ProductBatchResponse createProducts(List<ProductRequest> requests, User user) {
+        checkLimit(requests.size());
+
+        List<ProductBatchResult> results = new ArrayList<>(requests.size());
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        List<Product> chunk = new ArrayList<>(chunkSize);
+        Set<String> categories = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            ProductRequest request = requests.get(i);
+            String violation = validate(request);
+            if (violation != null) {
+                results.add(ProductBatchResult.failure(i, violation));
+                continue;
+            }
+
+            chunk.add(Product.from(request, user));
+            chunkIndexes.add(i);
+            categories.add(request.category());
+
+            if (chunk.size() == chunkSize) {
+                saveChunk(chunk, chunkIndexes, results);
+            }
+        }
+        saveChunk(chunk, chunkIndexes, results);
+
+        categories.forEach(productListingCache::invalidateCategory);
+
+        results.sort(Comparator.comparingInt(ProductBatchResult::index));
+        return ProductBatchResponse.of(results);
+    }
+
+    public ProductBatchResponse updateProducts(List<ProductUpdateItem> items, User user) {
+        checkLimit(items.size());
+
+        List<ProductBatchResult> results = new ArrayList<>(items.size());
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        List<ProductUpdateItem> chunk = new ArrayList<>(chunkSize);
+
+        for (int i = 0; i < items.size(); i++) {
+            ProductUpdateItem item = items.get(i);
+            String violation = validate(item);
+            if (violation != null) {
+                results.add(ProductBatchResult.failure(i, violation));
+                continue;
+            }
+
+            chunk.add(item);
+            chunkIndexes.add(i);
+
+            if (chunk.size() == chunkSize) {
+                updateChunk(chunk, chunkIndexes, user, results);
+            }
+        }
+        updateChunk(chunk, chunkIndexes, user, results);
+
+        results.sort(Comparator.comparingInt(ProductBatchResult::index));
+        return ProductBatchResponse.of(results);
+    }
+
+    // chunk 하나를 트랜잭션 하나로 저장, 실패하면 chunk 전체를 실패로 기록
+    private void saveChunk(List<Product> chunk, List<Integer> chunkIndexes, List<ProductBatchResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            insertChunk(chunk);
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(ProductBatchResult.success(chunkIndexes.get(i), chunk.get(i).getId()));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Product batch insert failed: {}", e.getMessage());
+            chunkIndexes.forEach(index -> results.add(ProductBatchResult.failure(index, "저장 중 오류가 발생했습니다.")));
+        } finally {
+            chunk.clear();
+            chunkIndexes.clear();
+        }
+    }
+
+    // chunk 하나를 트랜잭션 하나로 insert, 실패하면 예외를 그대로 던짐
+    void insertChunk(List<Product> chunk) {
+        transactionTemplate.executeWithoutResult(status -> {
+            productRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear(); // 영속성 컨텍스트가 커지지 않도록 chunk마다 비움
+        });
+        chunk.forEach(product -> productSearchIndex.index(ProductResponse.from(product)));
+    }
+
+    private void updateChunk(List<ProductUpdateItem> chunk, List<Integer> chunkIndexes, User user,
+                             List<ProductBatchResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<ProductBatchResult> chunkResults = new ArrayList<>(chunk.size());
+        List<ProductResponse> updated = new ArrayList<>(chunk.size());
+        Set<String> categories = new HashSet<>();
+
+        try {
+            // 메모리 재고 차감량을 먼저 DB에 반영, 반영에 실패하면 이 chunk만 실패로 처리
+            chunk.forEach(item -> stockReservationEngine.invalidate(item.id()));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                // chunk의 상품을 한 번의 IN 쿼리로 조회
+                Map<Long, Product> products = productRepository.findAllById(
+                                chunk.stream().map(ProductUpdateItem::id).toList())
+                        .stream()
+                        .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+                for (int i = 0; i < chunk.size(); i++) {
+                    ProductUpdateItem item = chunk.get(i);
+                    int index = chunkIndexes.get(i);
+                    Product product = products.get(item.id());
+
+                    if (product == null) {
+                        chunkResults.add(ProductBatchResult.failure(index, "데이터가 존재하지 않습니다."));
+                        continue;
+                    }
+                    // 등록자와 현재 로그인한 사용자가 일치하는지 확인
+                    if (!product.getUser().getId().equals(user.getId())) {
+                        chunkResults.add(ProductBatchResult.failure(index, "해당 상품을 수정할 권한이 없습니다."));
+                        continue;
+                    }
+
+                    categories.add(product.getCategory());
+                    product.update(item.product());
+                    categories.add(product.getCategory());
+                    updated.add(ProductResponse.from(product));
+                    chunkResults.add(ProductBatchResult.success(index, product.getId()));
+                }
+
+                entityManager.flush(); // 변경 감지된 update가 order_updates 설정으로 배치 전송됨
+                entityManager.clear();
+            });
+
+            results.addAll(chunkResults);
+            updated.forEach(productDetailCache::put);
+            updated.forEach(productSearchIndex::index);
+            categories.forEach(productListingCache::invalidateCategory);
+        } catch (RuntimeException e) {
+            log.warn("Product batch update failed: {}", e.getMessage());
+            chunkIndexes.forEach(index -> results.add(ProductBatchResult.failure(index, "저장 중 오류가 발생했습니다.")));
+        } finally {
+            chunk.clear();
+            chunkIndexes.clear();
+        }
+    }
+
+    private void checkLimit(int size) {
+        if (size > maxItems) {
+            throw new BatchLimitExceededException(maxItems);
+        }
+    }
+
+    // 단건 API의 @Valid와 같은 제약 조건으로 검증, 위반 사항이 없으면 null 반환
+    String validate(Object request) {
+        if (request == null) {
+            return "요청 항목이 비어 있습니다.";
+        }
+
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
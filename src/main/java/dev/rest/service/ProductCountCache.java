@@ -0,0 +1,66 @@
+package dev.rest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.rest.repository.CategoryCount;
+import dev.rest.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 카테고리별 전체 상품 수 캐시
+// 목록 조회 시 매번 COUNT(*)를 실행하지 않도록 주기적으로 갱신된 근사값을 제공함 (갱신 주기만큼 오차 허용)
+// 키가 클라이언트가 보낸 카테고리이므로 개수를 제한함 (없는 카테고리를 계속 바꿔 요청해도 메모리가 늘지 않도록)
+@Slf4j
+@Component
+public class ProductCountCache {
+
+    private static final String ALL_CATEGORIES = ""; // 카테고리 미지정(전체) 집계 키
+
+    private final ProductRepository productRepository;
+
+    private final Cache<String, Long> counts;
+
+    public ProductCountCache(ProductRepository productRepository,
+                             @Value("${product.count-cache.max-size:1000}") long maxSize) {
+        this.productRepository = productRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public long getTotalCount(String category) {
+        String key = (category != null && !category.isBlank()) ? category : ALL_CATEGORIES;
+
+        // 최초 요청 시에만 직접 집계하고, 이후에는 스케줄러가 갱신
+        return counts.get(key, k -> k.isEmpty() ? productRepository.count() : productRepository.countByCategory(k));
+    }
+
+    @Scheduled(fixedDelayString = "${product.count-cache.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (counts.estimatedSize() == 0) {
+            return; // 합계를 요청한 클라이언트가 없으면 집계하지 않음
+        }
+
+        Map<String, Long> fresh = new HashMap<>();
+        long total = 0;
+        for (CategoryCount categoryCount : productRepository.countGroupByCategory()) {
+            total += categoryCount.getCount();
+            if (categoryCount.getCategory() != null) {
+                fresh.put(categoryCount.getCategory(), categoryCount.getCount());
+            }
+        }
+        fresh.put(ALL_CATEGORIES, total);
+
+        // 이미 요청된 카테고리만 갱신해서 캐시 크기를 요청된 카테고리 수로 유지
+        // 상품이 모두 사라진(또는 처음부터 없던) 카테고리는 제거하고 다음 요청 시 다시 집계
+        counts.asMap().replaceAll((category, count) -> fresh.getOrDefault(category, count));
+        counts.asMap().keySet().retainAll(fresh.keySet());
+
+        log.debug("Product count cache refreshed: {} categories", fresh.size() - 1);
+    }
+}
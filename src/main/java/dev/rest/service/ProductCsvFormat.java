@@ -0,0 +1,71 @@
+package dev.rest.service;
+
+import dev.rest.dto.ProductResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 상품 CSV 행 변환 (RFC 4180: 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 따옴표는 두 번 씀)
+final class ProductCsvFormat {
+
+    static final String EXPORT_HEADER = "id,name,description,price,stock,category,userId";
+
+    private ProductCsvFormat() {
+    }
+
+    static String toRow(ProductResponse product) {
+        return String.join(",",
+                String.valueOf(product.id()),
+                escape(product.name()),
+                escape(product.description()),
+                String.valueOf(product.price()),
+                String.valueOf(product.stock()),
+                escape(product.category()),
+                product.userId() != null ? String.valueOf(product.userId()) : "");
+    }
+
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    // 한 줄을 필드 목록으로 분리, 따옴표로 감싼 값 안의 쉼표와 두 번 쓴 따옴표를 처리함
+    // 가져오기는 한 줄씩 읽으므로 값 안에 줄바꿈이 포함된 행은 지원하지 않음
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+        }
+        fields.add(field.toString());
+
+        return fields;
+    }
+}
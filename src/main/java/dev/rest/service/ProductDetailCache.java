@@ -0,0 +1,49 @@
+package dev.rest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.rest.dto.ProductResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 상품 상세 조회 캐시 (개수, TTL 제한)
+// 수정/삭제 시 ProductService에서 갱신하거나 제거하며, 다른 인스턴스의 변경은 TTL이 지나면 반영됨
+@Component
+public class ProductDetailCache {
+
+    private final Cache<Long, ProductResponse> cache;
+
+    public ProductDetailCache(@Value("${product.detail-cache.max-size:1000}") long maxSize,
+                              @Value("${product.detail-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // 캐시에 없으면 loader로 조회해서 저장, loader에서 발생한 예외(ProductNotFoundException 등)는 그대로 전달되고 캐시되지 않음
+    public ProductResponse get(Long id, Function<Long, ProductResponse> loader) {
+        return cache.get(id, loader);
+    }
+
+    public void put(ProductResponse product) {
+        cache.put(product.id(), product);
+    }
+
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
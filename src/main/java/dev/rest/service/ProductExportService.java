@@ -0,0 +1,85 @@
+package dev.rest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.rest.dto.ProductFileFormat;
+import dev.rest.dto.ProductResponse;
+import dev.rest.exception.ExportLimitExceededException;
+import dev.rest.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+// 전체 상품 내보내기
+// DB 커서로 한 행씩 읽어 바로 응답 스트림에 쓰기 때문에 상품 수와 관계없이 메모리 사용량이 일정함
+// 내보내기 하나가 끝날 때까지 커넥션을 점유하므로 동시에 실행되는 내보내기 수를 제한함 (초과하면 429)
+@Service
+public class ProductExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportSlots;
+
+    public ProductExportService(ProductRepository productRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${product.export.max-concurrent:2}") int maxConcurrent) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.exportSlots = new Semaphore(maxConcurrent);
+    }
+
+    // 요청 스레드에서 호출해서 자리가 없으면 응답을 시작하기 전에 바로 거절
+    public void acquireSlot() {
+        if (!exportSlots.tryAcquire()) {
+            throw new ExportLimitExceededException();
+        }
+    }
+
+    // 내보내기가 끝나거나 실패한 뒤 반드시 호출
+    public void releaseSlot() {
+        exportSlots.release();
+    }
+
+    // Stream 조회는 트랜잭션 안에서만 가능, 스트림을 모두 쓸 때까지 커넥션을 점유함
+    @Transactional(readOnly = true)
+    public void export(ProductFileFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == ProductFileFormat.CSV) {
+            writer.write(ProductCsvFormat.EXPORT_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<ProductResponse> products = productRepository.streamAllForExport()) {
+            products.forEach(product -> writeRow(writer, format, product));
+        } catch (UncheckedIOException e) {
+            throw e.getCause(); // 클라이언트 연결 종료 등 쓰기 실패
+        }
+
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, ProductFileFormat format, ProductResponse product) {
+        try {
+            if (format == ProductFileFormat.CSV) {
+                writer.write(ProductCsvFormat.toRow(product));
+            } else {
+                writer.write(objectMapper.writeValueAsString(product));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
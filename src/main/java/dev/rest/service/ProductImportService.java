@@ -0,0 +1,184 @@
+package dev.rest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.rest.dto.ProductFileFormat;
+import dev.rest.dto.ProductImportResponse;
+import dev.rest.dto.ProductRequest;
+import dev.rest.model.Product;
+import dev.rest.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// NDJSON/CSV 상품 가져오기
+// 요청 본문을 한 줄씩 읽어 검증하고 chunk 단위 트랜잭션으로 저장함
+// chunk 저장이 끝나야 다음 줄을 읽기 때문에 DB가 느리면 업로드도 TCP 흐름 제어로 함께 느려짐(back-pressure)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "price", "stock", "category");
+
+    private final ProductBatchService productBatchService;
+    private final ProductListingCache productListingCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${product.batch.chunk-size:500}")
+    private int chunkSize;
+
+    public ProductImportResponse importProducts(ProductFileFormat format, InputStream inputStream, User user) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ImportProgress progress = new ImportProgress();
+
+        // CSV는 헤더로 컬럼 위치를 찾으므로 내보내기 파일(id, userId 포함)도 그대로 가져올 수 있음
+        int[] columnIndexes = null;
+        if (format == ProductFileFormat.CSV) {
+            String header = reader.readLine();
+            progress.lineNumber++;
+            columnIndexes = resolveColumns(header);
+            if (columnIndexes == null) {
+                progress.reject(progress.lineNumber, "CSV 헤더에 " + String.join(", ", CSV_COLUMNS) + " 컬럼이 필요합니다.");
+                return progress.toResponse();
+            }
+        }
+
+        List<Product> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        Set<String> categories = new HashSet<>();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            long lineNumber = ++progress.lineNumber;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            ProductRequest request;
+            try {
+                request = (format == ProductFileFormat.CSV) ? parseCsv(line, columnIndexes) : parseNdjson(line);
+            } catch (IllegalArgumentException e) {
+                progress.reject(lineNumber, e.getMessage());
+                continue;
+            }
+
+            String violation = productBatchService.validate(request);
+            if (violation != null) {
+                progress.reject(lineNumber, violation);
+                continue;
+            }
+
+            chunk.add(Product.from(request, user));
+            chunkLines.add(lineNumber);
+            categories.add(request.category());
+
+            if (chunk.size() == chunkSize) {
+                saveChunk(chunk, chunkLines, progress);
+            }
+        }
+        saveChunk(chunk, chunkLines, progress);
+
+        categories.forEach(productListingCache::invalidateCategory);
+
+        return progress.toResponse();
+    }
+
+    private void saveChunk(List<Product> chunk, List<Long> chunkLines, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            productBatchService.insertChunk(chunk);
+            progress.accepted += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("Product import chunk failed: {}", e.getMessage());
+            chunkLines.forEach(lineNumber -> progress.reject(lineNumber, "저장 중 오류가 발생했습니다."));
+        } finally {
+            chunk.clear();
+            chunkLines.clear();
+        }
+    }
+
+    private ProductRequest parseNdjson(String line) {
+        try {
+            return objectMapper.readValue(line, ProductRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private ProductRequest parseCsv(String line, int[] columnIndexes) {
+        List<String> fields = ProductCsvFormat.parseLine(line);
+
+        return new ProductRequest(
+                field(fields, columnIndexes[0]),
+                field(fields, columnIndexes[1]),
+                parseInt(field(fields, columnIndexes[2]), "price"),
+                parseInt(field(fields, columnIndexes[3]), "stock"),
+                field(fields, columnIndexes[4])
+        );
+    }
+
+    private static int[] resolveColumns(String header) {
+        if (header == null) {
+            return null;
+        }
+
+        List<String> columns = ProductCsvFormat.parseLine(header.replace("\uFEFF", "")).stream() // UTF-8 BOM 제거
+                .map(column -> column.trim().toLowerCase())
+                .toList();
+
+        int[] indexes = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            indexes[i] = columns.indexOf(CSV_COLUMNS.get(i).toLowerCase());
+            if (indexes[i] < 0) {
+                return null;
+            }
+        }
+        return indexes;
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static int parseInt(String value, String fieldName) {
+        try {
+            return Integer.parseInt(value == null ? "" : value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(fieldName + ": 숫자 형식이 아닙니다.");
+        }
+    }
+
+    private static class ImportProgress {
+        private long lineNumber;
+        private long accepted;
+        private long rejected;
+        private final List<ProductImportResponse.RejectedRow> errors = new ArrayList<>();
+
+        private void reject(long line, String reason) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportResponse.RejectedRow(line, reason));
+            }
+        }
+
+        private ProductImportResponse toResponse() {
+            return new ProductImportResponse(accepted, rejected, errors);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.rest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import dev.rest.dto.ProductResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 상품 목록 페이지 캐시, (카테고리, 페이지 또는 커서, 크기) 단위로 저장
+// 상품이 등록/수정/삭제되면 해당 카테고리와 전체 목록 페이지를 제거함
+@Component
+public class ProductListingCache {
+
+    private static final String ALL_CATEGORIES = ""; // 카테고리 미지정(전체) 목록 키
+
+    // position은 오프셋 조회면 "page:{번호}", 커서 조회면 "after:{마지막 id}"
+    public record Key(String category, String position, int size) {
+
+        public static Key ofPage(String category, int page, int size) {
+            return new Key(normalize(category), "page:" + page, size);
+        }
+
+        public static Key ofCursor(String category, long afterId, int size) {
+            return new Key(normalize(category), "after:" + afterId, size);
+        }
+    }
+
+    private final Cache<Key, Slice<ProductResponse>> cache;
+
+    public ProductListingCache(@Value("${product.listing-cache.max-size:500}") long maxSize,
+                               @Value("${product.listing-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Slice<ProductResponse> get(Key key, Supplier<Slice<ProductResponse>> loader) {
+        return cache.get(key, k -> loader.get());
+    }
+
+    // 카테고리 목록과 전체 목록에 모두 노출되므로 두 가지를 함께 제거
+    public void invalidateCategory(String category) {
+        String normalized = normalize(category);
+        cache.asMap().keySet().removeIf(key ->
+                key.category().equals(normalized) || key.category().equals(ALL_CATEGORIES));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static String normalize(String category) {
+        return (category != null && !category.isBlank()) ? category : ALL_CATEGORIES;
+    }
+}
@@ -0,0 +1,165 @@
+package dev.rest.service;
+
+import dev.rest.dto.ProductResponse;
+import dev.rest.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// 상품명/설명 역색인 (토큰 -> 상품 id별 가중 빈도)
+// 시작 시 DB에서 다시 만들고, 이후에는 ProductService 등의 쓰기 작업에서 갱신함
+// 다른 인스턴스에서 등록된 상품은 재시작 시 반영됨
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT = 3; // 상품명에서 일치하면 설명보다 높은 점수
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // 점수 높은 순, 같으면 id 작은 순
+    private static final Comparator<ScoredProduct> RANKING = Comparator
+            .comparingDouble(ScoredProduct::score).reversed()
+            .thenComparing(ScoredProduct::productId);
+
+    private final ProductRepository productRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> documentTokens = new HashMap<>(); // 제거/갱신 시 기존 토큰을 찾기 위함
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documentTokens.clear();
+            try (Stream<ProductResponse> products = productRepository.streamAllForExport()) {
+                products.forEach(this::addDocument);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product search index rebuilt: {} products, {} tokens", documentTokens.size(), postings.size());
+    }
+
+    public void index(ProductResponse product) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(product.id());
+            addDocument(product);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // TF-IDF 점수 순으로 상품 id 반환, 질의 토큰을 많이 포함할수록 점수가 높음
+    // 한 글자 단어는 2-gram으로 나뉘지 않으므로 한 글자 단어로 등록된 토큰과만 일치함 (ProductTokenizer 참고)
+    public List<Long> search(String query, int limit) {
+        Set<String> queryTokens = new LinkedHashSet<>(ProductTokenizer.tokenize(query));
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, Integer> matchedTokens = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documentTokens.size();
+            for (String token : queryTokens) {
+                Map<Long, Integer> posting = postings.get(token);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) documentCount / posting.size());
+                posting.forEach((productId, frequency) -> {
+                    scores.merge(productId, frequency * idf, Double::sum);
+                    matchedTokens.merge(productId, 1, Integer::sum);
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 후보 전체를 정렬하지 않고 크기 limit의 최소 힙으로 상위 limit개만 유지 (O(n log limit))
+        PriorityQueue<ScoredProduct> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        scores.forEach((productId, score) -> {
+            top.offer(new ScoredProduct(productId, score * matchedTokens.get(productId)));
+            if (top.size() > limit) {
+                top.poll(); // 가장 낮은 점수 제거
+            }
+        });
+
+        List<Long> ranked = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            ranked.add(top.poll().productId());
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentTokens.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addDocument(ProductResponse product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        ProductTokenizer.tokenize(product.name()).forEach(token -> frequencies.merge(token, NAME_WEIGHT, Integer::sum));
+        ProductTokenizer.tokenize(product.description()).forEach(token -> frequencies.merge(token, DESCRIPTION_WEIGHT, Integer::sum));
+
+        frequencies.forEach((token, frequency) ->
+                postings.computeIfAbsent(token, key -> new HashMap<>()).put(product.id(), frequency));
+        documentTokens.put(product.id(), frequencies.keySet());
+    }
+
+    private record ScoredProduct(Long productId, double score) {
+    }
+
+    private void removeDocument(Long productId) {
+        Set<String> tokens = documentTokens.remove(productId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            Map<Long, Integer> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+}
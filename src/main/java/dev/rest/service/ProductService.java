@@ -1,71 +1,186 @@
 package dev.rest.service;
 
+import dev.rest.dto.ProductFilter;
 import dev.rest.dto.ProductRequest;
 import dev.rest.dto.ProductResponse;
+import dev.rest.exception.InvalidQueryParameterException;
 import dev.rest.exception.ProductNotFoundException;
 import dev.rest.model.Product;
 import dev.rest.model.User;
 import dev.rest.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
     private final ProductRepository productRepository;
+    private final ProductCountCache productCountCache;
+    private final ProductDetailCache productDetailCache;
+    private final ProductListingCache productListingCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final StockReservationEngine stockReservationEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    // Slice로 조회하므로 별도의 COUNT 쿼리가 실행되지 않음, 같은 페이지는 캐시에서 반환
+    // 엔티티 대신 응답 DTO로 바로 조회하는 읽기 전용 쿼리 사용
+    public Slice<ProductResponse> getProducts(String category, Pageable pageable) {
+        ProductListingCache.Key key = ProductListingCache.Key.ofPage(category, pageable.getPageNumber(), pageable.getPageSize());
+
+        return productListingCache.get(key, () -> (category != null && !category.isBlank())
+                ? productRepository.findResponsesByCategory(category, pageable)
+                : productRepository.findAllResponses(pageable));
+    }
+
+    // 가격 범위, 재고, 여러 카테고리 조건과 정렬을 DB에서 처리 (조건 조합이 다양해서 캐시하지 않음)
+    public Slice<ProductResponse> getFilteredProducts(ProductFilter filter, Pageable pageable) {
+        return productRepository.findByFilter(filter, pageable);
+    }
 
-    public Page<Product> getProducts(String category, Pageable pageable) {
-        return (category != null && !category.isBlank())
-                ? productRepository.findByCategory(category, pageable)
-                : productRepository.findAll(pageable);
+    // 전체 개수가 꼭 필요한 클라이언트를 위한 캐시된 합계
+    public long getTotalCount(String category) {
+        return productCountCache.getTotalCount(category);
     }
 
+    // 커서 기반 조회: OFFSET 없이 afterId 이후의 상품만 조회하므로 페이지 깊이와 무관하게 비용이 일정함
+    public Slice<ProductResponse> getProductsAfter(String category, Long afterId, int size) {
+        ProductListingCache.Key key = ProductListingCache.Key.ofCursor(category, afterId, size);
+
+        return productListingCache.get(key, () -> {
+            Pageable limit = PageRequest.ofSize(size);
+            return (category != null && !category.isBlank())
+                    ? productRepository.findResponsesByCategoryAfter(category, afterId, limit)
+                    : productRepository.findResponsesAfter(afterId, limit);
+        });
+    }
+
+    // 자주 조회되는 상품은 캐시에서 반환하고, 캐시에 없을 때만 DB 조회
     public ProductResponse getProductById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id));
+        return productDetailCache.get(id, key -> {
+            Product product = productRepository.findById(key)
+                    .orElseThrow(() -> new ProductNotFoundException(key));
+
+            return ProductResponse.from(product);
+        });
+    }
+
+    // 역색인에서 순위가 높은 상품 id를 찾고 해당 상품만 PK로 조회하므로 테이블 크기와 무관하게 응답 시간이 일정함
+    public List<ProductResponse> searchProducts(String query, int size) {
+        if (!ProductTokenizer.hasSearchableWord(query)) {
+            throw new InvalidQueryParameterException("검색어는 두 글자 이상인 단어를 하나 이상 포함해야 합니다.");
+        }
 
-        return ProductResponse.from(product);
+        List<Long> rankedIds = productSearchIndex.search(query, size);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductResponse> products = productRepository.findResponsesByIdIn(rankedIds).stream()
+                .collect(Collectors.toMap(ProductResponse::id, Function.identity()));
+
+        // IN 조회는 순서를 보장하지 않으므로 검색 순위대로 다시 정렬
+        return rankedIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
+    // 쓰기 요청은 읽기 전용이 아닌 트랜잭션으로 묶어서 수정 전 조회까지 원본 DB에서 처리 (복제본 지연으로 이전 버전을 읽지 않도록)
+    @Transactional
     public ProductResponse createProduct(ProductRequest request, User user) {
 
         Product newProduct = Product.from(request, user);
 
         Product createdProduct = productRepository.save(newProduct);
 
-        return ProductResponse.from(createdProduct);
+        ProductResponse created = ProductResponse.from(createdProduct);
+        afterCommit(() -> {
+            productListingCache.invalidateCategory(created.category());
+            productSearchIndex.index(created);
+        });
+        return created;
     }
 
+    // 메모리 재고 엔진에 남은 차감량을 먼저 반영해야 조회한 버전과 재고가 최신 상태가 됨
+    // 반영은 별도 트랜잭션이므로 수정 트랜잭션을 열기 전에 호출해서 요청 하나가 커넥션을 두 개 점유하지 않도록 함
     public ProductResponse updateProduct(Long id, ProductRequest request, User user) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id));
-
-        // 등록자와 현재 로그인한 사용자가 일치하는지 확인
-        if (!product.getUser().getId().equals(user.getId())) {
-            throw new AccessDeniedException("해당 상품을 수정할 권한이 없습니다.");
-        }
-
-        product.update(request);
-        return ProductResponse.from(productRepository.save(product));
+        stockReservationEngine.invalidate(id);
+
+        return transactionTemplate.execute(status -> {
+            Product product = productRepository.findById(id)
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+
+            // 등록자와 현재 로그인한 사용자가 일치하는지 확인
+            if (!product.getUser().getId().equals(user.getId())) {
+                throw new AccessDeniedException("해당 상품을 수정할 권한이 없습니다.");
+            }
+
+            String previousCategory = product.getCategory();
+            product.update(request);
+            ProductResponse updated = ProductResponse.from(productRepository.save(product));
+
+            afterCommit(() -> {
+                productDetailCache.put(updated); // 수정된 내용으로 캐시 갱신
+                productListingCache.invalidateCategory(previousCategory); // 카테고리가 바뀐 경우 이전 카테고리 목록도 제거
+                productListingCache.invalidateCategory(updated.category());
+                productSearchIndex.index(updated);
+            });
+            return updated;
+        });
     }
 
     public ProductResponse deleteProduct(Long id, User user) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id));
+        stockReservationEngine.invalidate(id);
 
-        // 등록자와 현재 로그인한 사용자가 일치하는지 확인
-        if (!product.getUser().getId().equals(user.getId())) {
-            throw new AccessDeniedException("해당 상품을 제거할 권한이 없습니다.");
-        }
+        return transactionTemplate.execute(status -> {
+            Product product = productRepository.findById(id)
+                    .orElseThrow(() -> new ProductNotFoundException(id));
+
+            // 등록자와 현재 로그인한 사용자가 일치하는지 확인
+            if (!product.getUser().getId().equals(user.getId())) {
+                throw new AccessDeniedException("해당 상품을 제거할 권한이 없습니다.");
+            }
 
-        // 삭제 전에 응답용 DTO로 변환
-        ProductResponse deletedProduct = ProductResponse.from(product);
+            // 삭제 전에 응답용 DTO로 변환
+            ProductResponse deletedProduct = ProductResponse.from(product);
 
-        productRepository.delete(product);
+            productRepository.delete(product);
+            afterCommit(() -> {
+                productDetailCache.evict(id);
+                productListingCache.invalidateCategory(deletedProduct.category());
+                productSearchIndex.remove(id);
+            });
 
-        return deletedProduct;
+            return deletedProduct;
+        });
+    }
+
+    // 캐시와 검색 인덱스는 커밋된 뒤에 갱신 (롤백된 변경이 캐시에 남거나, 커밋 전에 다른 요청이 이전 값을 다시 캐시하지 않도록)
+    // 트랜잭션 밖에서 호출되면 바로 실행
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,51 @@
+package dev.rest.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 검색용 토큰 분리기
+// 한글은 형태소 분석 없이도 부분 일치가 되도록 단어를 2-gram으로 나눔 ("맥북 프로 16인치" -> 맥북, 프로, 16, 6인, 인치)
+// 한 글자 단어는 그대로 토큰이 되므로 한 글자 검색어는 한 글자 단어와만 일치함 ("북"으로 "맥북"은 찾지 못함),
+// 그래서 검색어에 두 글자 이상인 단어가 하나도 없으면 검색하지 않음 (hasSearchableWord)
+final class ProductTokenizer {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private ProductTokenizer() {
+    }
+
+    static boolean hasSearchableWord(String text) {
+        if (text == null || text.isBlank()) {
+            return false;
+        }
+        for (String word : WORD_SEPARATOR.split(text)) {
+            if (word.codePointCount(0, word.length()) >= 2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 2 <= word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+}
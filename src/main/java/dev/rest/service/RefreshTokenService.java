@@ -0,0 +1,120 @@
+package dev.rest.service;
+
+import dev.rest.exception.InvalidRefreshTokenException;
+import dev.rest.model.RefreshToken;
+import dev.rest.model.User;
+import dev.rest.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+// 리프레시 토큰 발급, 회전, 폐기
+// 액세스 토큰 갱신은 해시 값 한 번 조회로 끝나므로 클라이언트가 만료 때마다 비밀번호로 다시 로그인(BCrypt 검증)하지 않아도 됨
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration validity;
+    private final Clock clock;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${auth.refresh-token.validity-days:14}") long validityDays) {
+        this(refreshTokenRepository, Duration.ofDays(validityDays), Clock.systemUTC());
+    }
+
+    RefreshTokenService(RefreshTokenRepository refreshTokenRepository, Duration validity, Clock clock) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.validity = validity;
+        this.clock = clock;
+    }
+
+    // 로그인 성공 시 새 family의 첫 토큰 발급
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    // 토큰을 사용 처리하고 같은 family의 새 토큰을 발급
+    // 이미 사용된 토큰이 다시 오면 탈취된 것으로 보고 family 전체를 폐기해서 정상 사용자도 다시 로그인하도록 함
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        Instant now = clock.instant();
+        User user = refreshToken.getUser();
+
+        if (refreshToken.getUsedAt() != null || refreshTokenRepository.markUsed(refreshToken.getId(), now) == 0) {
+            // 탈취된 토큰으로 이미 발급받은 액세스 토큰과 다른 기기의 토큰도 쓸 수 없도록 토큰 버전을 올림
+            log.warn("Refresh token reuse detected for user {}, revoking family {} and invalidating issued tokens",
+                    user.getId(), refreshToken.getFamilyId());
+            refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId());
+            user.invalidateTokens();
+            throw new InvalidRefreshTokenException();
+        }
+
+        if (refreshToken.isExpired(now) || refreshToken.getTokenVersion() != user.getTokenVersion()) {
+            refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId());
+            throw new InvalidRefreshTokenException();
+        }
+
+        return new Rotation(user, issue(user, refreshToken.getFamilyId()));
+    }
+
+    // 로그아웃, 해당 토큰이 속한 family 전체 폐기 (없는 토큰이면 무시)
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .ifPresent(refreshToken -> refreshTokenRepository.deleteByFamilyId(refreshToken.getFamilyId()));
+    }
+
+    // 만료된 토큰 정리, 사용된 토큰도 만료 전까지는 재사용 감지를 위해 남겨 둠
+    @Scheduled(fixedDelayString = "${auth.refresh-token.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(clock.instant());
+        if (purged > 0) {
+            log.debug("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.issue(hash(rawToken), familyId, user, clock.instant().plus(validity)));
+        return rawToken;
+    }
+
+    // 256비트 난수 토큰이라 BCrypt 같은 느린 해시가 필요 없음, 조회용 키로 SHA-256 사용
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Rotation(User user, String refreshToken) {}
+}
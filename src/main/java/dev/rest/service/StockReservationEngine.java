@@ -0,0 +1,310 @@
+package dev.rest.service;
+
+import dev.rest.exception.ProductNotFoundException;
+import dev.rest.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 메모리 재고 차감 엔진 (product.stock-engine.enabled=true일 때 사용)
+// 플래시 세일처럼 한 상품 행에 UPDATE가 몰리는 경우를 위해 상품별 카운터에서 CAS로 차감하고,
+// 누적된 차감량을 주기적으로(그리고 종료 시) 한 번에 DB에 반영함
+// 인스턴스 하나가 상품 재고를 전담하는 구성을 전제로 하며, 여러 인스턴스에서 켜면 인스턴스마다 재고를 따로 계산하게 됨
+@Slf4j
+@Component
+public class StockReservationEngine {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final Map<Long, StockCounter> counters = new ConcurrentHashMap<>();
+    private final AtomicLong flushedTotal = new AtomicLong();
+    private final AtomicLong driftCorrections = new AtomicLong();
+    private final AtomicLong rejectedDeltas = new AtomicLong();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public StockReservationEngine(ProductRepository productRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${product.stock-engine.enabled:false}") boolean enabled) {
+        this.productRepository = productRepository;
+        // 상품 수정 트랜잭션 안에서 호출되어도 차감량 반영은 별도 트랜잭션으로 커밋 (수정이 롤백돼도 유실되지 않도록)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+    }
+
+    // 상품별 재고 카운터, 차감끼리는 잠금 없이 CAS로 갱신
+    // 읽기 잠금은 차감 중에 카운터가 제거(invalidate)되거나 정합성 보정되지 않도록 막는 용도 (차감끼리는 서로 막지 않음)
+    private static final class StockCounter {
+        private final AtomicLong available; // 메모리 기준 남은 재고
+        private final AtomicLong pending = new AtomicLong(); // 아직 DB에 반영되지 않은 차감량
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private boolean retired; // 쓰기 잠금 안에서만 변경, 제거된 카운터를 잡은 차감 요청은 새 카운터로 다시 시도
+
+        private StockCounter(long available) {
+            this.available = new AtomicLong(available);
+        }
+
+        // 차감 중인 요청이 정합성 검사에 "재고 과다"로 보이지 않도록 pending을 먼저 올리고 available을 차감함
+        private boolean tryReserve(int quantity) {
+            pending.addAndGet(quantity);
+            while (true) {
+                long current = available.get();
+                if (current < quantity) {
+                    pending.addAndGet(-quantity);
+                    return false;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release(int quantity) {
+            available.addAndGet(quantity);
+            pending.addAndGet(-quantity);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 음수 수량은 재고를 늘리게 되므로 호출 측 검증과 별도로 거절
+    public boolean tryReserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive: " + quantity);
+        }
+        while (true) {
+            StockCounter counter = counterFor(productId);
+            counter.lock.readLock().lock();
+            try {
+                if (!counter.retired) {
+                    return counter.tryReserve(quantity);
+                }
+            } finally {
+                counter.lock.readLock().unlock();
+            }
+        }
+    }
+
+    // 여러 상품 차감 중 일부가 실패했을 때 먼저 차감한 수량을 되돌림
+    // 그 사이 카운터가 교체됐다면 차감량은 이미 DB에 반영된 상태이므로 새 카운터에 되돌려서 다음 flush에 DB 재고를 늘림
+    public void release(Long productId, int quantity) {
+        while (true) {
+            StockCounter counter = counters.get(productId);
+            if (counter == null) {
+                try {
+                    counter = counterFor(productId);
+                } catch (ProductNotFoundException e) {
+                    return; // 삭제된 상품
+                }
+            }
+            counter.lock.readLock().lock();
+            try {
+                if (!counter.retired) {
+                    counter.release(quantity);
+                    return;
+                }
+            } finally {
+                counter.lock.readLock().unlock();
+            }
+        }
+    }
+
+    // 상품 수정/삭제로 DB 재고가 직접 바뀌기 전에 호출, 남은 차감량을 반영한 뒤 카운터를 제거해서 다음 차감 시 다시 읽도록 함
+    // 반영에 실패하거나 DB 재고가 차감량보다 적어 반영되지 않으면 카운터를 그대로 두고 예외를 던져서 수정/삭제도 실패하도록 함 (차감량 유실 방지)
+    // 커넥션을 하나 더 쓰지 않도록 수정/삭제 트랜잭션을 열기 전에 호출해야 함
+    public void invalidate(Long productId) {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            StockCounter counter = counters.get(productId);
+            if (counter == null) {
+                return;
+            }
+
+            counter.lock.writeLock().lock(); // 진행 중인 차감이 끝날 때까지 대기, 이후 차감은 새 카운터로 이동
+            try {
+                long delta = counter.pending.get();
+                if (delta != 0) {
+                    if (!applyDeltas(Map.of(productId, delta)).isEmpty()) {
+                        throw new IllegalStateException("Pending stock delta " + delta + " for product " + productId
+                                + " exceeds stored stock, not applied");
+                    }
+                    counter.pending.addAndGet(-delta);
+                }
+                counter.retired = true;
+                counters.remove(productId, counter);
+            } finally {
+                counter.lock.writeLock().unlock();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // flush와 정합성 검사, invalidate는 flushLock으로 순서대로 실행 (가상 스레드 스케줄러에서는 동시에 실행될 수 있음)
+    @Scheduled(fixedDelayString = "${product.stock-engine.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            Map<Long, StockCounter> taken = new HashMap<>();
+            Map<Long, Long> deltas = new HashMap<>();
+            counters.forEach((productId, counter) -> {
+                long delta = counter.pending.getAndSet(0);
+                if (delta != 0) {
+                    taken.put(productId, counter);
+                    deltas.put(productId, delta);
+                }
+            });
+
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            // 실패하거나 반영되지 않은 차감량은 가져온 카운터에 직접 되돌려 놓고 다음 주기에 다시 반영 (flushLock 안이라 카운터가 제거되지 않음)
+            Set<Long> notApplied;
+            try {
+                notApplied = applyDeltas(deltas);
+            } catch (RuntimeException e) {
+                log.error("Stock flush failed, will retry: {}", e.getMessage());
+                notApplied = deltas.keySet();
+            }
+            notApplied.forEach(productId -> taken.get(productId).pending.addAndGet(deltas.get(productId)));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 메모리 재고와 DB 재고(- 미반영 차감량)를 비교해서 어긋나면 DB 기준으로 보정
+    // DB 재고보다 커서 반영되지 못한 차감량도 pending에 남아 있으므로 보정 후에도 확정된 차감이 사라지지 않음
+    @Scheduled(fixedDelayString = "${product.stock-engine.consistency-check-interval-ms:60000}")
+    public void checkConsistency() {
+        if (!enabled) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            flush();
+            counters.forEach((productId, counter) -> {
+                // flushLock 안에서는 DB 재고를 바꾸는 쪽(flush, invalidate)이 실행되지 않으므로 잠금 밖에서 조회
+                Integer dbStock = productRepository.findStockById(productId).orElse(null);
+
+                counter.lock.writeLock().lock(); // 차감 도중의 pending/available 사이 값으로 잘못 보정하지 않도록 차감을 잠시 막음
+                try {
+                    if (dbStock == null) {
+                        counter.retired = true;
+                        counters.remove(productId, counter); // 삭제된 상품
+                        return;
+                    }
+
+                    long expected = dbStock - counter.pending.get();
+                    long actual = counter.available.get();
+                    if (expected != actual) {
+                        log.warn("Stock drift detected for product {}: memory={}, expected={}", productId, actual, expected);
+                        counter.available.set(expected);
+                        driftCorrections.incrementAndGet();
+                    }
+                } finally {
+                    counter.lock.writeLock().unlock();
+                }
+            });
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int trackedProducts() {
+        return counters.size();
+    }
+
+    public long pendingDelta() {
+        return counters.values().stream().mapToLong(counter -> counter.pending.get()).sum();
+    }
+
+    public long flushedTotal() {
+        return flushedTotal.get();
+    }
+
+    public long driftCorrections() {
+        return driftCorrections.get();
+    }
+
+    public long rejectedDeltas() {
+        return rejectedDeltas.get();
+    }
+
+    // 카운터가 없으면 DB에서 읽어서 등록, 조회는 맵 잠금(computeIfAbsent) 밖에서 하되
+    // 반영 중인 차감량이 커밋되기 전의 재고를 읽지 않도록 flushLock 안에서 실행 (상품별 첫 차감에서만 발생)
+    private StockCounter counterFor(Long productId) {
+        StockCounter counter = counters.get(productId);
+        if (counter != null) {
+            return counter;
+        }
+
+        flushLock.lock();
+        try {
+            counter = counters.get(productId);
+            if (counter == null) {
+                int stock = productRepository.findStockById(productId)
+                        .orElseThrow(() -> new ProductNotFoundException(productId));
+                counter = new StockCounter(stock);
+                counters.put(productId, counter);
+            }
+            return counter;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 모은 차감량을 트랜잭션 하나로 반영하고, 반영하지 못한 상품 id를 반환
+    // DB 재고보다 큰 차감량은 DB 재고가 음수가 되지 않도록 반영하지 않음, 호출 측에서 pending에 남겨 두고 다시 시도하거나 실패 처리
+    private Set<Long> applyDeltas(Map<Long, Long> deltas) {
+        Set<Long> notApplied = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status ->
+                deltas.forEach((productId, delta) -> {
+                    if (productRepository.applyStockDelta(productId, Math.toIntExact(delta)) == 0) {
+                        log.error("Stock delta {} for product {} exceeds stored stock or product is gone, kept pending",
+                                delta, productId);
+                        notApplied.add(productId);
+                    }
+                }));
+        rejectedDeltas.addAndGet(notApplied.size());
+        deltas.forEach((productId, delta) -> {
+            if (!notApplied.contains(productId)) {
+                flushedTotal.addAndGet(delta);
+            }
+        });
+        return notApplied;
+    }
+}
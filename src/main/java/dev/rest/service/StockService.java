@@ -0,0 +1,100 @@
+package dev.rest.service;
+
+import dev.rest.dto.StockReservationItem;
+import dev.rest.exception.InsufficientStockException;
+import dev.rest.exception.InvalidStockQuantityException;
+import dev.rest.exception.ProductNotFoundException;
+import dev.rest.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 재고 차감
+// 조회 후 저장하지 않고 "stock >= 수량" 조건의 UPDATE 한 번으로 차감해서 동시 주문에도 갱신 손실이 없음
+@Service
+@RequiredArgsConstructor
+public class StockService {
+
+    private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+    private final StockReservationEngine stockReservationEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    // 메모리 재고 엔진을 쓰면 DB 반영은 엔진이 따로 처리하므로 트랜잭션(커넥션)은 DB 차감 경로에서만 염
+    public StockReservationItem reserve(Long productId, int quantity) {
+        if (stockReservationEngine.isEnabled()) {
+            decreaseInMemory(productId, quantity);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> decrease(productId, quantity));
+        }
+        productDetailCache.evict(productId);
+        return new StockReservationItem(productId, quantity);
+    }
+
+    // 여러 상품을 한 트랜잭션에서 차감, 하나라도 부족하면 전체 롤백
+    public List<StockReservationItem> reserveAll(List<StockReservationItem> items) {
+        // 같은 상품은 수량을 합치고 id 순서로 차감해서 동시 요청끼리 행 잠금 순서가 엇갈리지(교착 상태) 않도록 함
+        Map<Long, Integer> quantities = new TreeMap<>();
+        items.forEach(item -> quantities.merge(item.productId(), item.quantity(),
+                (sum, quantity) -> addQuantity(item.productId(), sum, quantity)));
+
+        if (stockReservationEngine.isEnabled()) {
+            reserveAllInMemory(quantities);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> quantities.forEach(this::decrease));
+        }
+        quantities.keySet().forEach(productDetailCache::evict);
+
+        return quantities.entrySet().stream()
+                .map(entry -> new StockReservationItem(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    // 합산 결과가 int를 넘으면 음수가 되어 "stock >= 수량" 조건을 통과하고 재고가 늘어나므로 overflow와 상한을 모두 검사
+    private static int addQuantity(Long productId, int sum, int quantity) {
+        try {
+            int total = Math.addExact(sum, quantity);
+            if (total > StockReservationItem.MAX_QUANTITY) {
+                throw new InvalidStockQuantityException(productId);
+            }
+            return total;
+        } catch (ArithmeticException e) {
+            throw new InvalidStockQuantityException(productId);
+        }
+    }
+
+    private void decrease(Long productId, int quantity) {
+        if (productRepository.decreaseStock(productId, quantity) == 0) {
+            // 차감된 행이 없으면 상품이 없거나 재고가 부족한 경우
+            if (!productRepository.existsById(productId)) {
+                throw new ProductNotFoundException(productId);
+            }
+            throw new InsufficientStockException(productId);
+        }
+    }
+
+    // 메모리 재고 엔진 사용 시: DB 반영은 엔진이 주기적으로 처리
+    private void decreaseInMemory(Long productId, int quantity) {
+        if (!stockReservationEngine.tryReserve(productId, quantity)) {
+            throw new InsufficientStockException(productId);
+        }
+    }
+
+    // 메모리 차감은 트랜잭션 롤백 대상이 아니므로 실패하면 먼저 차감한 수량을 직접 되돌림
+    private void reserveAllInMemory(Map<Long, Integer> quantities) {
+        Map<Long, Integer> reserved = new TreeMap<>();
+        try {
+            quantities.forEach((productId, quantity) -> {
+                decreaseInMemory(productId, quantity);
+                reserved.put(productId, quantity);
+            });
+        } catch (RuntimeException e) {
+            reserved.forEach(stockReservationEngine::release);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package dev.rest.service;
+
+import dev.rest.model.RevokedToken;
+import dev.rest.repository.RevokedTokenRepository;
+import dev.rest.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 만료 전에 폐기된 액세스 토큰(jti) 목록, 요청마다 DB를 조회하지 않도록 revoked_tokens 테이블을 메모리에 복제
+// 대부분의 토큰은 Bloom filter에서 바로 "없음"으로 판정되고, 오탐인 경우에만 정확한 집합을 확인
+// 다른 인스턴스에서 폐기한 토큰은 refresh-interval 안에 반영됨
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // 동시에 커밋된 트랜잭션은 id 순서와 다르게 보일 수 있으므로 증분 조회 시 마지막 id보다 조금 앞에서부터 다시 읽음
+    private static final long ID_OVERLAP = 100;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // Bloom filter는 제거를 지원하지 않으므로 재구성 시 새 스냅샷으로 통째로 교체
+    private volatile Snapshot snapshot;
+    private long lastSeenId;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${auth.revocation.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${auth.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshot = new Snapshot(new BloomFilter(expectedInsertions, falsePositiveRate), new ConcurrentHashMap<>());
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false; // jti가 없는 이전 형식의 토큰
+        }
+
+        Snapshot current = snapshot;
+        return current.filter().mightContain(tokenId) && current.tokens().containsKey(tokenId);
+    }
+
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || !expiresAt.isAfter(Instant.now())) {
+            return; // 이미 만료된 토큰은 서명 검증에서 거절됨
+        }
+
+        if (!revokedTokenRepository.existsByTokenId(tokenId)) {
+            revokedTokenRepository.save(RevokedToken.of(tokenId, expiresAt));
+        }
+        add(snapshot, tokenId, expiresAt.toEpochMilli());
+    }
+
+    // 마지막으로 읽은 이후에 추가된 행만 반영
+    @Scheduled(fixedDelayString = "${auth.revocation.refresh-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        lastSeenId = load(snapshot, Math.max(lastSeenId - ID_OVERLAP, 0));
+    }
+
+    // 만료된 항목을 제거한 새 스냅샷으로 교체, 증분 조회에서 놓친 행도 이때 반영됨
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${auth.revocation.rebuild-interval-ms:600000}",
+            fixedDelayString = "${auth.revocation.rebuild-interval-ms:600000}")
+    @Transactional
+    public synchronized void rebuild() {
+        long now = System.currentTimeMillis();
+        revokedTokenRepository.deleteExpired(Instant.ofEpochMilli(now));
+
+        Snapshot previous = snapshot;
+        long liveCount = previous.tokens().values().stream().filter(expiresAt -> expiresAt > now).count();
+        // 예상보다 많이 쌓인 경우 오탐률이 유지되도록 크기를 늘림
+        Snapshot rebuilt = new Snapshot(
+                new BloomFilter(Math.max(expectedInsertions, liveCount * 2), falsePositiveRate),
+                new ConcurrentHashMap<>());
+
+        lastSeenId = load(rebuilt, 0);
+        // 재구성 중에 이 인스턴스에서 폐기한 토큰(아직 커밋 전이라 조회되지 않았을 수 있음)도 유지
+        previous.tokens().forEach((tokenId, expiresAt) -> {
+            if (expiresAt > now) {
+                add(rebuilt, tokenId, expiresAt);
+            }
+        });
+
+        snapshot = rebuilt;
+        log.info("Token revocation list rebuilt: {} revoked tokens", rebuilt.tokens().size());
+    }
+
+    public int size() {
+        return snapshot.tokens().size();
+    }
+
+    private long load(Snapshot target, long afterId) {
+        Instant now = Instant.now();
+        long lastId = afterId;
+
+        List<RevokedToken> batch;
+        do {
+            batch = revokedTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderById(lastId, now, Limit.of(BATCH_SIZE));
+            for (RevokedToken revokedToken : batch) {
+                add(target, revokedToken.getTokenId(), revokedToken.getExpiresAt().toEpochMilli());
+                lastId = revokedToken.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        return Math.max(lastId, lastSeenId);
+    }
+
+    // 정확한 집합에 먼저 넣고 Bloom filter에 추가, 조회 시 filter를 통과하면 집합에는 반드시 있음
+    private static void add(Snapshot target, String tokenId, long expiresAtMillis) {
+        target.tokens().put(tokenId, expiresAtMillis);
+        target.filter().put(tokenId);
+    }
+
+    // 토큰 ID -> 원래 만료 시각(ms)
+    private record Snapshot(BloomFilter filter, Map<String, Long> tokens) {}
+}
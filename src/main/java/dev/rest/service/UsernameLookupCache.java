@@ -0,0 +1,131 @@
+package dev.rest.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.rest.repository.UserRepository;
+import dev.rest.repository.UsernameEntry;
+import dev.rest.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+// 가입 시 사용자명 중복 확인을 DB 조회 없이 처리하기 위한 사용자명 캐시
+// - Bloom filter: 전체 사용자명, "확실히 없음"이면 중복 확인 조회 생략
+// - 양성 캐시: DB에서 사용 중으로 확인된 사용자명, 같은 이름으로 반복되는 가입 시도는 조회 생략
+// 최종 판단은 user.username 유니크 제약이 담당 (다른 인스턴스의 가입은 refresh-interval 안에 반영됨)
+// 캐시가 늦게 반영될 수 있으므로 로그인 여부 판단에는 사용하지 않음
+// MySQL 기본 collation은 대소문자를 구분하지 않으므로 키는 소문자로 통일
+@Slf4j
+@Component
+public class UsernameLookupCache {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // 동시에 커밋된 가입은 id 순서와 다르게 보일 수 있으므로 증분 조회 시 마지막 id보다 조금 앞에서부터 다시 읽음
+    private static final long ID_OVERLAP = 100;
+
+    private final UserRepository userRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Cache<String, Boolean> takenUsernames;
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready; // 적재 전에는 모든 사용자명을 "있을 수 있음"으로 판단
+    private long insertions; // filter에 적재된 사용자명 수 (크기 조정 판단용)
+    private long lastSeenId;
+
+    public UsernameLookupCache(UserRepository userRepository,
+                               @Value("${auth.username-cache.expected-insertions:1000000}") long expectedInsertions,
+                               @Value("${auth.username-cache.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${auth.username-cache.taken-max-size:10000}") long takenMaxSize) {
+        this.userRepository = userRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.takenUsernames = Caffeine.newBuilder()
+                .maximumSize(takenMaxSize)
+                .build();
+    }
+
+    public boolean isDefinitelyAbsent(String username) {
+        return ready && !filter.mightContain(key(username));
+    }
+
+    public boolean isKnownTaken(String username) {
+        return takenUsernames.getIfPresent(key(username)) != null;
+    }
+
+    // DB 조회나 유니크 제약 위반으로 사용 중임이 확인된 경우
+    public void markTaken(String username) {
+        takenUsernames.put(key(username), Boolean.TRUE);
+        filter.put(key(username));
+    }
+
+    // 가입 직후 호출, 트랜잭션이 롤백되어도 Bloom filter 오탐이 하나 늘어날 뿐이므로 양성 캐시에는 넣지 않음
+    // 개수는 다음 증분 갱신에서 DB 행을 읽을 때 집계
+    public void add(String username) {
+        filter.put(key(username));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void load() {
+        insertions = 0;
+        lastSeenId = loadAfter(filter, 0, 0);
+        ready = true;
+        log.info("Username lookup cache loaded: {} usernames", insertions);
+    }
+
+    // 다른 인스턴스에서 가입한 사용자명 반영, 예상 개수를 넘으면 오탐률이 유지되도록 더 큰 filter로 다시 적재
+    @Scheduled(fixedDelayString = "${auth.username-cache.refresh-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public synchronized void refresh() {
+        if (!ready) {
+            return;
+        }
+
+        if (insertions > expectedInsertions) {
+            BloomFilter resized = new BloomFilter(insertions * 2, falsePositiveRate);
+            insertions = 0;
+            lastSeenId = loadAfter(resized, 0, 0);
+            filter = resized;
+            log.info("Username lookup cache resized: {} usernames", insertions);
+            return;
+        }
+
+        lastSeenId = loadAfter(filter, Math.max(lastSeenId - ID_OVERLAP, 0), lastSeenId);
+    }
+
+    // countedUpToId 이하의 행은 이미 집계되었으므로 다시 세지 않음, 읽은 마지막 id 반환
+    private long loadAfter(BloomFilter target, long afterId, long countedUpToId) {
+        long lastId = Math.max(afterId, countedUpToId);
+        long cursor = afterId;
+
+        List<UsernameEntry> batch;
+        do {
+            batch = userRepository.findUsernamesAfter(cursor, Limit.of(BATCH_SIZE));
+            for (UsernameEntry entry : batch) {
+                target.put(key(entry.getUsername()));
+                if (entry.getId() > countedUpToId) {
+                    insertions++;
+                }
+                cursor = entry.getId();
+                lastId = Math.max(lastId, cursor);
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        return lastId;
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
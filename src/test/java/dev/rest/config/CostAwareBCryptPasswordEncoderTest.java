@@ -0,0 +1,20 @@
+package dev.rest.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CostAwareBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("저장된 해시의 cost가 설정과 다르면 올리든 내리든 재해시 대상이어야 한다")
+    void given_different_cost_when_upgrade_encoding_then_true() {
+        CostAwareBCryptPasswordEncoder encoder = new CostAwareBCryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password1"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password1"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password1"))).isFalse();
+    }
+}
@@ -0,0 +1,80 @@
+package dev.rest.config;
+
+import dev.rest.model.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "dce9a1cf98d54495aa3b44c258e54cf4");
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheMaxSize", 100L);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("발급한 토큰을 검증하면 사용자명, 권한, 토큰 버전 클레임을 꺼낼 수 있어야 한다")
+    void given_issued_token_when_verify_then_returns_claims() {
+        User user = User.builder().id(1L).username("testuser").tokenVersion(3).build();
+        String token = jwtTokenProvider.generateToken(user);
+
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+
+        assertThat(verified).isPresent();
+        assertThat(verified.get().subject()).isEqualTo("1");
+        assertThat(verified.get().username()).isEqualTo("testuser");
+        assertThat(verified.get().role()).isEqualTo("USER");
+        assertThat(verified.get().tokenVersion()).isEqualTo(3);
+        assertThat(verified.get().tokenId()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시에서 반환되어야 한다")
+    void given_verified_token_when_verify_again_then_hits_cache() {
+        String token = jwtTokenProvider.generateToken(User.builder().id(1L).username("testuser").build());
+
+        jwtTokenProvider.verify(token);
+        jwtTokenProvider.verify(token);
+
+        assertThat(jwtTokenProvider.getVerifiedTokens().stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 검증에 실패해야 한다")
+    void given_tampered_token_when_verify_then_returns_empty() {
+        String token = jwtTokenProvider.generateToken(User.builder().id(1L).username("testuser").build());
+        int index = token.lastIndexOf('.') + 5; // 서명 부분의 문자 하나를 변경
+        char replaced = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replaced + token.substring(index + 1);
+
+        assertThat(jwtTokenProvider.verify(tampered)).isEmpty();
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 시간(exp)이 없는 토큰은 검증에 실패해야 한다")
+    void given_token_without_expiration_when_verify_then_returns_empty() {
+        String token = Jwts.builder()
+                .setSubject("1")
+                .setId("no-exp")
+                .signWith(Keys.hmacShaKeyFor("dce9a1cf98d54495aa3b44c258e54cf4".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(jwtTokenProvider.verify(token)).isEmpty();
+    }
+}
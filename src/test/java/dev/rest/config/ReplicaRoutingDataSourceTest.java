@@ -0,0 +1,80 @@
+package dev.rest.config;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 원본/복제본을 서로 다른 내장 H2 DB로 띄우고, 각 DB에 자신의 이름을 저장해서 어느 쪽에서 읽었는지 확인
+class ReplicaRoutingDataSourceTest {
+
+    private static DataSource primary;
+    private static DataSource replica;
+
+    @BeforeAll
+    static void setUp() {
+        primary = embedded("routing_primary", "primary");
+        replica = embedded("routing_replica", "replica");
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 원본에서 실행되어야 한다")
+    void given_transaction_type_then_routes_to_matching_database() {
+        DataSource dataSource = routing(Map.of("replica-1", replica));
+
+        assertThat(currentNode(dataSource, true)).isEqualTo("replica");
+        assertThat(currentNode(dataSource, false)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제본에 연결할 수 없으면 원본에서 읽어야 한다")
+    void given_unavailable_replica_when_read_only_then_falls_back_to_primary() {
+        DataSource unavailable = new DriverManagerDataSource("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE", "sa", "");
+        DataSource dataSource = routing(Map.of("replica-1", unavailable));
+
+        assertThat(currentNode(dataSource, true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("장애가 난 복제본은 제외하고 정상 복제본으로 읽어야 한다")
+    void given_one_unavailable_replica_then_uses_healthy_replica() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", new DriverManagerDataSource("jdbc:h2:mem:routing_missing;IFEXISTS=TRUE", "sa", ""));
+        replicas.put("replica-2", replica);
+        DataSource dataSource = routing(replicas);
+
+        assertThat(currentNode(dataSource, true)).isEqualTo("replica");
+        assertThat(currentNode(dataSource, true)).isEqualTo("replica");
+    }
+
+    private static DataSource routing(Map<String, DataSource> replicas) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primary, replicas, ReplicaRoutingProperties.LoadBalancing.ROUND_ROBIN, Duration.ofSeconds(30)));
+    }
+
+    private static String currentNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private static DataSource embedded(String database, String nodeName) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node values (?)", nodeName);
+        return dataSource;
+    }
+}
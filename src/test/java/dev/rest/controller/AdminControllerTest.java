@@ -0,0 +1,64 @@
+package dev.rest.controller;
+
+import dev.rest.config.JwtTokenProvider;
+import dev.rest.config.SecurityConfig;
+import dev.rest.service.CustomUserDetailsService;
+import dev.rest.service.ProductDetailCache;
+import dev.rest.service.ProductListingCache;
+import dev.rest.service.StockReservationEngine;
+import dev.rest.service.TokenRevocationList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@DisplayName("운영 컨트롤러 테스트")
+@WebMvcTest(AdminController.class)
+@Import(SecurityConfig.class)
+class AdminControllerTest {
+
+    @Autowired
+    private MockMvcTester mockMvcTester;
+
+    @MockitoBean
+    private ProductDetailCache productDetailCache;
+
+    @MockitoBean
+    private ProductListingCache productListingCache;
+
+    @MockitoBean
+    private StockReservationEngine stockReservationEngine;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @MockitoBean
+    private TokenRevocationList tokenRevocationList;
+
+    @Test
+    @WithMockUser(roles = "USER")
+    @DisplayName("ADMIN 권한이 없는 사용자가 운영 API를 호출하면 403이 반환되어야 한다")
+    void given_user_role_when_get_admin_api_then_returns_403() {
+        assertThat(mockMvcTester.perform(get("/api/admin/stock-engine")))
+                .hasStatus(HttpStatus.FORBIDDEN);
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("ADMIN 권한이 있는 사용자는 운영 API를 호출할 수 있어야 한다")
+    void given_admin_role_when_get_admin_api_then_returns_200() {
+        assertThat(mockMvcTester.perform(get("/api/admin/stock-engine")))
+                .hasStatus(HttpStatus.OK);
+    }
+}
@@ -5,10 +5,13 @@ import dev.rest.config.JwtTokenProvider;
 import dev.rest.config.SecurityConfig;
 import dev.rest.dto.LoginRequest;
 import dev.rest.dto.LoginResponse;
+import dev.rest.dto.RefreshTokenRequest;
 import dev.rest.dto.SignupRequest;
 import dev.rest.dto.SignupResponse;
+import dev.rest.exception.InvalidRefreshTokenException;
 import dev.rest.service.AuthService;
 import dev.rest.service.CustomUserDetailsService;
+import dev.rest.service.TokenRevocationList;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +50,9 @@ class AuthControllerTest {
     @MockitoBean
     private CustomUserDetailsService customUserDetailsService;
 
+    @MockitoBean
+    private TokenRevocationList tokenRevocationList;
+
 
     @Test
     @DisplayName("회원가입 API 호출시 201 상태코드와 함께 응답이 반환되어야 한다")
@@ -80,7 +86,7 @@ class AuthControllerTest {
         LoginRequest loginRequest = new LoginRequest("testuser", "password123");
         String token = "mock-jwt-token";
 
-        given(authService.login(any(LoginRequest.class))).willReturn(token);
+        given(authService.login(any(LoginRequest.class))).willReturn(new LoginResponse(token, "mock-refresh-token"));
 
         // When
         MvcTestResult result = mockMvcTester.perform(post("/api/auth/login")
@@ -94,6 +100,44 @@ class AuthControllerTest {
                 .convertTo(LoginResponse.class)
                 .satisfies(loginResponse -> {
                     assertThat(loginResponse.accessToken()).isEqualTo(token);
+                    assertThat(loginResponse.refreshToken()).isEqualTo("mock-refresh-token");
+                });
+    }
+
+    @Test
+    @DisplayName("리프레시 API 호출시 새 액세스 토큰과 리프레시 토큰이 반환되어야 한다")
+    void given_refresh_request_when_post_refresh_then_returns_200_with_new_tokens() throws Exception {
+        // Given
+        given(authService.refresh("old-refresh-token")).willReturn(new LoginResponse("new-jwt-token", "new-refresh-token"));
+
+        // When
+        MvcTestResult result = mockMvcTester.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("old-refresh-token"))));
+
+        // Then
+        assertThat(result)
+                .hasStatus(HttpStatus.OK)
+                .bodyJson()
+                .convertTo(LoginResponse.class)
+                .satisfies(loginResponse -> {
+                    assertThat(loginResponse.accessToken()).isEqualTo("new-jwt-token");
+                    assertThat(loginResponse.refreshToken()).isEqualTo("new-refresh-token");
                 });
     }
+
+    @Test
+    @DisplayName("유효하지 않은 리프레시 토큰이면 401 상태코드가 반환되어야 한다")
+    void given_invalid_refresh_token_when_post_refresh_then_returns_401() throws Exception {
+        // Given
+        given(authService.refresh("reused-refresh-token")).willThrow(new InvalidRefreshTokenException());
+
+        // When
+        MvcTestResult result = mockMvcTester.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("reused-refresh-token"))));
+
+        // Then
+        assertThat(result).hasStatus(HttpStatus.UNAUTHORIZED);
+    }
 }
\ No newline at end of file
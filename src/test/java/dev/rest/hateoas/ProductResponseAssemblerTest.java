@@ -0,0 +1,65 @@
+package dev.rest.hateoas;
+
+import dev.rest.dto.ProductResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductResponseAssemblerTest {
+
+    private final ProductLinkTemplates linkTemplates = new ProductLinkTemplates();
+    private final ProductResponse product = new ProductResponse(13L, "맥북 프로 16인치", "설명", 3500000, 5, "전자제품", 42L);
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/products");
+        request.setServerName("api.example.com");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("미리 해석한 템플릿으로 만든 링크는 linkTo(methodOn(...))으로 만든 링크와 같아야 한다")
+    void given_precomputed_templates_then_links_match_reflective_links() {
+        EntityModel<ProductResponse> precomputed = new ProductResponseAssembler(linkTemplates, true).toModelForCreate(product);
+        EntityModel<ProductResponse> reflective = new ProductResponseAssembler(linkTemplates, false).toModelForCreate(product);
+
+        // linkTo(methodOn(...)) 링크에만 있는 affordance는 HAL-FORMS 응답에서만 쓰이고 HAL(application/hal+json)에는 출력되지 않으므로
+        // 클라이언트가 받는 값(rel, href, type, 템플릿 여부)만 비교
+        assertThat(precomputed.getLinks().stream().map(ProductResponseAssemblerTest::rendered).toList())
+                .containsExactlyElementsOf(reflective.getLinks().stream().map(ProductResponseAssemblerTest::rendered).toList());
+        assertThat(precomputed.getRequiredLink("self").getHref()).isEqualTo("http://api.example.com:8080/api/products/13");
+    }
+
+    @Test
+    @DisplayName("검색 링크의 검색어는 인코딩되어 href가 깨지거나 URI 템플릿으로 해석되지 않아야 한다")
+    void given_query_with_reserved_characters_when_build_search_links_then_query_encoded() {
+        Link self = new ProductResponseAssembler(linkTemplates, true).buildSearchLinks("a&b #c%{d}+e", 20).get("self");
+
+        assertThat(self.isTemplated()).isFalse();
+        assertThat(self.getHref()).isEqualTo("/api/products/search?q=a%26b%20%23c%25%7Bd%7D%2Be&size=20");
+        String encodedQuery = UriComponentsBuilder.fromUriString(self.getHref()).build(true).getQueryParams().getFirst("q");
+        assertThat(UriUtils.decode(encodedQuery, StandardCharsets.UTF_8)).isEqualTo("a&b #c%{d}+e");
+    }
+
+    private static String rendered(Link link) {
+        return link.getRel().value() + " " + link.getHref() + " " + link.getType() + " " + link.isTemplated();
+    }
+}
@@ -1,9 +1,12 @@
 package dev.rest.service;
 
 import dev.rest.config.JwtTokenProvider;
+import dev.rest.config.PasswordHashingExecutor;
 import dev.rest.dto.LoginRequest;
+import dev.rest.dto.LoginResponse;
 import dev.rest.dto.SignupRequest;
 import dev.rest.dto.SignupResponse;
+import dev.rest.exception.TooManyLoginAttemptsException;
 import dev.rest.model.User;
 import dev.rest.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -12,8 +15,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -22,6 +30,9 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -35,6 +46,24 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Spy
+    private PasswordHashingExecutor passwordHashingExecutor = new PasswordHashingExecutor(2, 10, 5000);
+
+    @Spy
+    private LoginRateLimiter loginRateLimiter = new LoginRateLimiter(3, 60);
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private UsernameLookupCache usernameLookupCache;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     AuthService authService;
 
@@ -74,6 +103,65 @@ class AuthServiceTest {
                     .isInstanceOf(IllegalArgumentException.class)
                     .hasMessage("이미 사용 중인 사용자 이름입니다.");
         }
+
+        @Test
+        @DisplayName("비밀번호 해시는 가입 트랜잭션을 열기 전에 계산되어야 한다")
+        void given_signup_when_hashing_then_no_transaction_is_open() {
+            SignupRequest request = new SignupRequest("newuser", "password123", "new@email.com");
+            given(passwordEncoder.encode("password123")).willAnswer(invocation -> {
+                verify(transactionTemplate, never()).execute(any());
+                return "encoded-password";
+            });
+            given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            authService.signup(request);
+
+            verify(transactionTemplate).execute(any());
+        }
+
+        @Test
+        @DisplayName("사용자명 캐시에 확실히 없는 이름이면 중복 확인 쿼리 없이 가입되어야 한다")
+        void given_definitely_absent_username_when_signup_then_skips_exists_query() {
+            SignupRequest request = new SignupRequest("newuser", "password123", "new@email.com");
+            given(usernameLookupCache.isDefinitelyAbsent("newuser")).willReturn(true);
+            given(passwordEncoder.encode("password123")).willReturn("encoded-password");
+            given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            SignupResponse response = authService.signup(request);
+
+            assertThat(response.username()).isEqualTo("newuser");
+            verify(userRepository, never()).existsByUsername("newuser");
+            verify(usernameLookupCache).add("newuser");
+        }
+
+        @Test
+        @DisplayName("동시 가입으로 유니크 제약을 위반하면 중복 사용자명 예외가 발생해야 한다")
+        void given_unique_violation_when_signup_then_throws_duplicate_username() {
+            SignupRequest request = new SignupRequest("testuser", "password123", "test@email.com");
+            given(usernameLookupCache.isDefinitelyAbsent("testuser")).willReturn(true);
+            given(passwordEncoder.encode("password123")).willReturn("encoded-password");
+            given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate",
+                    new ConstraintViolationException("duplicate", null, "PUBLIC.UK_USER_USERNAME_INDEX_2")));
+
+            assertThatThrownBy(() -> authService.signup(request))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("이미 사용 중인 사용자 이름입니다.");
+            verify(usernameLookupCache).markTaken("testuser");
+        }
+
+        @Test
+        @DisplayName("이메일 유니크 제약을 위반하면 사용자명을 사용 중으로 기록하지 않아야 한다")
+        void given_email_violation_when_signup_then_username_not_marked_taken() {
+            SignupRequest request = new SignupRequest("newuser", "password123", "test@email.com");
+            given(usernameLookupCache.isDefinitelyAbsent("newuser")).willReturn(true);
+            given(passwordEncoder.encode("password123")).willReturn("encoded-password");
+            given(userRepository.save(any(User.class))).willThrow(new DataIntegrityViolationException("duplicate",
+                    new ConstraintViolationException("duplicate", null, "user.uk_user_email")));
+
+            assertThatThrownBy(() -> authService.signup(request))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            verify(usernameLookupCache, never()).markTaken("newuser");
+        }
     }
 
     @Nested
@@ -92,6 +180,25 @@ class AuthServiceTest {
                     .hasMessage("존재하지 않는 사용자입니다.");
         }
 
+        @Test
+        @DisplayName("사용자명 캐시에 아직 반영되지 않은 사용자도 DB에서 조회해서 로그인할 수 있어야 한다")
+        void given_username_missing_from_cache_when_login_then_queries_database() {
+            LoginRequest request = new LoginRequest("remoteuser", "password123");
+            User user = User.builder()
+                    .id(2L)
+                    .username("remoteuser")
+                    .password("encoded-password")
+                    .build();
+            given(userRepository.findByUsername("remoteuser")).willReturn(Optional.of(user));
+            given(passwordEncoder.matches(request.password(), user.getPassword())).willReturn(true);
+            given(jwtTokenProvider.generateToken(user)).willReturn("mock-jwt-token");
+
+            LoginResponse response = authService.login(request);
+
+            assertThat(response.accessToken()).isEqualTo("mock-jwt-token");
+            verify(usernameLookupCache, never()).isDefinitelyAbsent("remoteuser");
+        }
+
         @Test
         @DisplayName("잘못된 비밀번호로 로그인할 경우 예외가 발생한다.")
         void given_wrong_password_when_login_then_throws_exception() {
@@ -114,7 +221,7 @@ class AuthServiceTest {
         }
 
         @Test
-        @DisplayName("올바른 로그인 정보로 로그인시 JWT 토큰이 반환되어야 한다")
+        @DisplayName("올바른 로그인 정보로 로그인시 JWT 토큰과 리프레시 토큰이 반환되어야 한다")
         void given_valid_login_request_when_login_then_returns_jwt_token() {
             LoginRequest request = new LoginRequest("testuser", "password123");
             // 모킹용 정상 사용자 정보 데이터 구성
@@ -129,12 +236,58 @@ class AuthServiceTest {
             given(passwordEncoder.matches(request.password(), user.getPassword())).willReturn(true);
 
             // jwtTokenProvider의 generateToken 메서드가 "mock-jwt-token" 반환하도록 설정
-            given(jwtTokenProvider.generateToken(user.getId())).willReturn("mock-jwt-token");
+            given(jwtTokenProvider.generateToken(user)).willReturn("mock-jwt-token");
+            given(refreshTokenService.issue(user)).willReturn("mock-refresh-token");
+
+            LoginResponse response = authService.login(request);
+
+            assertThat(response.accessToken()).isEqualTo("mock-jwt-token");
+            assertThat(response.refreshToken()).isEqualTo("mock-refresh-token");
+        }
+
+        @Test
+        @DisplayName("저장된 해시의 cost가 현재 설정과 다르면 로그인 성공 시 비밀번호를 다시 해시한다")
+        void given_outdated_hash_when_login_then_password_rehashed() {
+            LoginRequest request = new LoginRequest("testuser", "password123");
+            User user = User.builder()
+                    .id(1L)
+                    .username("testuser")
+                    .password("old-cost-password")
+                    .build();
+
+            given(userRepository.findByUsername(request.username())).willReturn(Optional.of(user));
+            given(passwordEncoder.matches(request.password(), "old-cost-password")).willReturn(true);
+            given(passwordEncoder.upgradeEncoding("old-cost-password")).willReturn(true);
+            given(passwordEncoder.encode(request.password())).willReturn("new-cost-password");
+            given(jwtTokenProvider.generateToken(user)).willReturn("mock-jwt-token");
+
+            authService.login(request);
+
+            assertThat(user.getPassword()).isEqualTo("new-cost-password");
+            verify(userRepository).save(user);
+        }
+
+        @Test
+        @DisplayName("같은 사용자명으로 허용 횟수를 넘겨 로그인을 시도하면 비밀번호 검증 없이 TooManyLoginAttemptsException이 발생한다")
+        void given_too_many_attempts_when_login_then_throws_too_many_login_attempts() {
+            LoginRequest request = new LoginRequest("testuser", "잘못된 비밀번호");
+            User user = User.builder()
+                    .id(1L)
+                    .username("testuser")
+                    .password("encoded-password")
+                    .build();
+            given(userRepository.findByUsername("testuser")).willReturn(Optional.of(user));
+            given(passwordEncoder.matches(request.password(), user.getPassword())).willReturn(false);
 
-            String token = authService.login(request);
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> authService.login(request))
+                        .hasMessage("비밀번호가 일치하지 않습니다.");
+            }
 
-            assertThat(token).isNotNull();
-            assertThat(token).isEqualTo("mock-jwt-token");
+            LoginRequest fourth = new LoginRequest("testuser", "password123");
+            assertThatThrownBy(() -> authService.login(fourth))
+                    .isInstanceOf(TooManyLoginAttemptsException.class);
+            verify(passwordEncoder, never()).matches("password123", user.getPassword());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package dev.rest.service;
+
+import dev.rest.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ProductCountCacheTest {
+
+    private ProductRepository productRepository;
+    private ProductCountCache productCountCache;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        productCountCache = new ProductCountCache(productRepository, 2);
+    }
+
+    @Test
+    @DisplayName("같은 카테고리는 한 번만 집계해야 한다")
+    void given_cached_category_when_get_again_then_counted_once() {
+        given(productRepository.countByCategory("전자제품")).willReturn(3L);
+
+        assertThat(productCountCache.getTotalCount("전자제품")).isEqualTo(3);
+        assertThat(productCountCache.getTotalCount("전자제품")).isEqualTo(3);
+
+        verify(productRepository, times(1)).countByCategory("전자제품");
+    }
+
+    @Test
+    @DisplayName("없는 카테고리는 갱신 시 제거되어야 한다")
+    void given_unknown_category_when_refresh_then_removed() {
+        given(productRepository.countByCategory(anyString())).willReturn(0L);
+        given(productRepository.countGroupByCategory()).willReturn(List.of());
+
+        productCountCache.getTotalCount("없는카테고리");
+        productCountCache.refresh();
+        productCountCache.getTotalCount("없는카테고리");
+
+        verify(productRepository, times(2)).countByCategory("없는카테고리");
+    }
+}
@@ -0,0 +1,31 @@
+package dev.rest.service;
+
+import dev.rest.dto.ProductResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCsvFormatTest {
+
+    @Test
+    @DisplayName("쉼표와 따옴표가 포함된 값은 따옴표로 감싸서 내보내고 다시 읽을 수 있어야 한다")
+    void given_value_with_comma_and_quote_when_round_trip_then_same_value() {
+        ProductResponse product = new ProductResponse(1L, "맥북 프로 16인치", "M3 \"Max\", 36GB", 3500000, 5, "전자제품", 42L);
+
+        String row = ProductCsvFormat.toRow(product);
+        List<String> fields = ProductCsvFormat.parseLine(row);
+
+        assertThat(fields).containsExactly("1", "맥북 프로 16인치", "M3 \"Max\", 36GB", "3500000", "5", "전자제품", "42");
+    }
+
+    @Test
+    @DisplayName("따옴표가 닫히지 않은 행은 예외가 발생한다")
+    void given_unclosed_quote_when_parse_then_throws_exception() {
+        assertThatThrownBy(() -> ProductCsvFormat.parseLine("\"맥북,설명,1000,1,전자제품"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.rest.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.rest.exception.ExportLimitExceededException;
+import dev.rest.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ProductExportServiceTest {
+
+    private final ProductExportService productExportService =
+            new ProductExportService(mock(ProductRepository.class), new ObjectMapper(), 1);
+
+    @Test
+    @DisplayName("동시 내보내기 수를 넘으면 ExportLimitExceededException이 발생하고, 끝난 자리는 다시 쓸 수 있어야 한다")
+    void given_all_slots_taken_when_acquire_then_throws_until_released() {
+        productExportService.acquireSlot();
+
+        assertThatThrownBy(productExportService::acquireSlot)
+                .isInstanceOf(ExportLimitExceededException.class);
+
+        productExportService.releaseSlot();
+        assertThatCode(productExportService::acquireSlot).doesNotThrowAnyException();
+    }
+}
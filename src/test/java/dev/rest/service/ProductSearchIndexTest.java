@@ -0,0 +1,57 @@
+package dev.rest.service;
+
+import dev.rest.dto.ProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndex = new ProductSearchIndex(null); // 재구성(rebuild)을 사용하지 않으므로 저장소 불필요
+        productSearchIndex.index(new ProductResponse(1L, "맥북 프로 16인치", "고성능 M칩을 탑재한 전문가용 노트북", 3500000, 5, "전자제품", 1L));
+        productSearchIndex.index(new ProductResponse(2L, "LG 울트라 노트북", "가벼운 무게와 고성능의 조화", 1200000, 7, "전자제품", 2L));
+        productSearchIndex.index(new ProductResponse(3L, "에어팟 프로", "액티브 노이즈 캔슬링이 탑재된 무선 이어폰", 300000, 10, "전자제품", 3L));
+    }
+
+    @Test
+    @DisplayName("단어 일부로 검색해도 상품명에 포함된 상품을 찾아야 한다")
+    void given_partial_word_when_search_then_returns_matching_product() {
+        assertThat(productSearchIndex.search("맥북", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("상품명에서 일치한 상품이 설명에서만 일치한 상품보다 앞에 와야 한다")
+    void given_name_and_description_match_when_search_then_name_match_ranked_first() {
+        assertThat(productSearchIndex.search("노트북", 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("제거된 상품은 검색되지 않아야 한다")
+    void given_removed_product_when_search_then_not_returned() {
+        productSearchIndex.remove(3L);
+
+        assertThat(productSearchIndex.search("에어팟", 10)).isEmpty();
+        assertThat(productSearchIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("limit보다 후보가 많으면 점수가 높은 상품부터 limit개만 반환해야 한다")
+    void given_more_candidates_than_limit_when_search_then_returns_top_ranked() {
+        assertThat(productSearchIndex.search("프로 노트북", 2)).containsExactly(1L, 2L);
+        assertThat(productSearchIndex.search("노트북", 1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("두 글자 이상인 단어가 없는 검색어는 검색 대상이 아니어야 한다")
+    void given_single_character_words_then_not_searchable() {
+        assertThat(ProductTokenizer.hasSearchableWord("북")).isFalse();
+        assertThat(ProductTokenizer.hasSearchableWord("a b")).isFalse();
+        assertThat(ProductTokenizer.hasSearchableWord("LG a")).isTrue();
+    }
+}
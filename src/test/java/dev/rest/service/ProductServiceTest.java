@@ -10,18 +10,33 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
@@ -29,6 +44,21 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Spy
+    private ProductDetailCache productDetailCache = new ProductDetailCache(100, 60);
+
+    @Spy
+    private ProductListingCache productListingCache = new ProductListingCache(100, 30);
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private StockReservationEngine stockReservationEngine;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     ProductService productService;
 
@@ -56,6 +86,23 @@ class ProductServiceTest {
         assertThat(response.stock()).isEqualTo(10);
     }
 
+    @Test
+    @DisplayName("상품 삭제 시 메모리 재고 반영은 삭제 트랜잭션을 열기 전에 실행되어야 한다")
+    void given_stock_engine_when_delete_then_invalidates_before_transaction() {
+        // Given
+        User owner = User.builder().id(1L).build();
+        Product product = Product.builder().id(1L).name("상품").price(1000).stock(1).category("전자제품").user(owner).build();
+        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+
+        // When
+        productService.deleteProduct(1L, owner);
+
+        // Then
+        InOrder order = inOrder(stockReservationEngine, transactionTemplate);
+        order.verify(stockReservationEngine).invalidate(1L);
+        order.verify(transactionTemplate).execute(any());
+    }
+
     @Nested
     @DisplayName("상품 수정 테스트")
     class UpdateProductTest {
@@ -135,6 +182,143 @@ class ProductServiceTest {
             assertThat(response.stock()).isEqualTo(7);
             assertThat(response.category()).isEqualTo("가전");
         }
+
+        @Test
+        @DisplayName("트랜잭션 안에서 수정하면 커밋된 뒤에 캐시와 검색 인덱스를 갱신해야 한다")
+        void given_active_transaction_when_update_then_caches_updated_after_commit() {
+            // Given
+            User owner = User.builder().id(1L).build();
+            ProductRequest request = new ProductRequest("수정된 상품", "새 설명", 15000, 7, "가전");
+            Product product = Product.builder()
+                    .id(1L)
+                    .name("원래 상품")
+                    .description("설명")
+                    .price(10000)
+                    .stock(10)
+                    .category("카테고리")
+                    .user(owner)
+                    .build();
+            given(productRepository.findById(1L)).willReturn(Optional.of(product));
+            given(productRepository.save(any(Product.class))).willReturn(product);
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // When
+                ProductResponse response = productService.updateProduct(1L, request, owner);
+
+                // Then
+                verify(productDetailCache, never()).put(any());
+                verify(productSearchIndex, never()).index(any());
+
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+                verify(productDetailCache).put(response);
+                verify(productSearchIndex).index(response);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 상세 조회 캐시 테스트")
+    class ProductDetailCacheTest {
+
+        @Test
+        @DisplayName("같은 상품을 두 번 조회하면 DB는 한 번만 조회되어야 한다")
+        void given_cached_product_when_get_again_then_repository_called_once() {
+            // Given
+            User owner = User.builder().id(1L).build();
+            Product product = Product.builder()
+                    .id(1L)
+                    .name("맥북 프로 16인치")
+                    .description("설명")
+                    .price(3500000)
+                    .stock(5)
+                    .category("전자제품")
+                    .user(owner)
+                    .build();
+            given(productRepository.findById(1L)).willReturn(Optional.of(product));
+
+            // When
+            productService.getProductById(1L);
+            ProductResponse response = productService.getProductById(1L);
+
+            // Then
+            assertThat(response.name()).isEqualTo("맥북 프로 16인치");
+            verify(productRepository, times(1)).findById(1L);
+        }
+
+        @Test
+        @DisplayName("상품을 삭제하면 캐시에서도 제거되어 다음 조회 시 DB를 다시 조회해야 한다")
+        void given_deleted_product_when_get_then_cache_evicted() {
+            // Given
+            User owner = User.builder().id(1L).build();
+            Product product = Product.builder()
+                    .id(1L)
+                    .name("맥북 프로 16인치")
+                    .description("설명")
+                    .price(3500000)
+                    .stock(5)
+                    .category("전자제품")
+                    .user(owner)
+                    .build();
+            given(productRepository.findById(1L))
+                    .willReturn(Optional.of(product))
+                    .willReturn(Optional.of(product))
+                    .willReturn(Optional.empty());
+
+            productService.getProductById(1L);
+
+            // When
+            productService.deleteProduct(1L, owner);
+
+            // Then
+            assertThatThrownBy(() -> productService.getProductById(1L))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("상품 목록 캐시 테스트")
+    class ProductListingCacheTest {
+
+        @Test
+        @DisplayName("같은 카테고리 페이지를 다시 조회하면 DB는 한 번만 조회되어야 한다")
+        void given_cached_page_when_get_again_then_repository_called_once() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            ProductResponse product = new ProductResponse(1L, "에어팟 프로", null, 0, 0, "전자제품", 1L);
+            given(productRepository.findResponsesByCategory("전자제품", pageable))
+                    .willReturn(new SliceImpl<>(List.of(product), pageable, false));
+
+            // When
+            productService.getProducts("전자제품", pageable);
+            productService.getProducts("전자제품", pageable);
+
+            // Then
+            verify(productRepository, times(1)).findResponsesByCategory("전자제품", pageable);
+        }
+
+        @Test
+        @DisplayName("같은 카테고리에 상품이 등록되면 목록 캐시가 제거되어 DB를 다시 조회해야 한다")
+        void given_created_product_when_get_page_then_cache_invalidated() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            User user = User.builder().id(1L).build();
+            ProductRequest request = new ProductRequest("갤럭시 버즈2", "무선 이어폰", 150000, 8, "전자제품");
+            given(productRepository.findResponsesByCategory("전자제품", pageable))
+                    .willReturn(new SliceImpl<>(List.of(), pageable, false));
+            given(productRepository.save(any(Product.class))).willReturn(Product.from(request, user));
+
+            productService.getProducts("전자제품", pageable);
+
+            // When
+            productService.createProduct(request, user);
+            productService.getProducts("전자제품", pageable);
+
+            // Then
+            verify(productRepository, times(2)).findResponsesByCategory("전자제품", pageable);
+        }
     }
 
     // TODO: 상품 조회, 제거 테스트
@@ -0,0 +1,100 @@
+package dev.rest.service;
+
+import dev.rest.exception.InvalidRefreshTokenException;
+import dev.rest.model.RefreshToken;
+import dev.rest.model.User;
+import dev.rest.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    private final User user = User.builder().id(1L).username("testuser").build();
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, Duration.ofDays(14),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 원본이 아닌 해시 값으로 저장되어야 한다")
+    void given_user_when_issue_then_stores_hash_only() {
+        String rawToken = refreshTokenService.issue(user);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getTokenHash()).isNotEqualTo(rawToken);
+        assertThat(captor.getValue().getExpiresAt()).isEqualTo(NOW.plus(Duration.ofDays(14)));
+    }
+
+    @Test
+    @DisplayName("사용하지 않은 토큰으로 회전하면 같은 family의 새 토큰이 발급되어야 한다")
+    void given_unused_token_when_rotate_then_issues_new_token_in_same_family() {
+        RefreshToken stored = RefreshToken.issue("hash", "family-1", user, NOW.plusSeconds(60));
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(stored));
+        given(refreshTokenRepository.markUsed(stored.getId(), NOW)).willReturn(1);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("raw-token");
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(rotation.user()).isEqualTo(user);
+        assertThat(rotation.refreshToken()).isNotEqualTo("raw-token");
+        assertThat(captor.getValue().getFamilyId()).isEqualTo("family-1");
+        verify(refreshTokenRepository, never()).deleteByFamilyId(anyString());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 토큰이 다시 오면 family 전체를 폐기하고 예외가 발생해야 한다")
+    void given_reused_token_when_rotate_then_revokes_family() {
+        RefreshToken stored = RefreshToken.issue("hash", "family-1", user, NOW.plusSeconds(60));
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(stored));
+        given(refreshTokenRepository.markUsed(stored.getId(), NOW)).willReturn(0); // 다른 요청이 먼저 사용함
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("raw-token"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        verify(refreshTokenRepository).deleteByFamilyId("family-1");
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+        assertThat(user.getTokenVersion()).isEqualTo(1); // 이미 발급된 다른 토큰도 무효화
+    }
+
+    @Test
+    @DisplayName("만료된 토큰으로 회전하면 예외가 발생해야 한다")
+    void given_expired_token_when_rotate_then_throws() {
+        RefreshToken stored = RefreshToken.issue("hash", "family-1", user, NOW);
+        given(refreshTokenRepository.findByTokenHashWithUser(anyString())).willReturn(Optional.of(stored));
+        given(refreshTokenRepository.markUsed(stored.getId(), NOW)).willReturn(1);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("raw-token"))
+                .isInstanceOf(InvalidRefreshTokenException.class);
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+}
@@ -0,0 +1,183 @@
+package dev.rest.service;
+
+import dev.rest.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class StockReservationEngineTest {
+
+    private ProductRepository productRepository;
+    private StockReservationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        engine = new StockReservationEngine(productRepository, mock(PlatformTransactionManager.class), true);
+        given(productRepository.applyStockDelta(anyLong(), anyInt())).willReturn(1);
+    }
+
+    @Test
+    @DisplayName("동시에 차감해도 재고보다 많이 차감되지 않아야 한다")
+    void given_concurrent_reservations_then_never_oversells() throws Exception {
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(100));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger succeeded = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            futures.add(executor.submit(() -> {
+                if (engine.tryReserve(1L, 1)) {
+                    succeeded.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(succeeded.get()).isEqualTo(100);
+        assertThat(engine.pendingDelta()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("flush하면 누적된 차감량이 상품별로 한 번에 DB에 반영되어야 한다")
+    void given_pending_reservations_when_flush_then_applies_net_delta() {
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+        engine.tryReserve(1L, 2);
+        engine.tryReserve(1L, 3);
+
+        engine.flush();
+        engine.flush(); // 반영할 차감량이 없으면 UPDATE하지 않음
+
+        verify(productRepository, times(1)).applyStockDelta(1L, 5);
+        assertThat(engine.pendingDelta()).isZero();
+        assertThat(engine.flushedTotal()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("DB 재고와 어긋나면 정합성 검사에서 DB 기준으로 보정해야 한다")
+    void given_drift_when_check_consistency_then_corrects_memory_stock() {
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10)).willReturn(Optional.of(3));
+        engine.tryReserve(1L, 2); // 메모리 재고 8, DB에는 외부 변경으로 5만 남은 상황 (flush 후 3)
+
+        engine.checkConsistency();
+
+        assertThat(engine.driftCorrections()).isEqualTo(1);
+        assertThat(engine.tryReserve(1L, 4)).isFalse();
+        assertThat(engine.tryReserve(1L, 3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("invalidate하면 남은 차감량을 반영한 뒤 다음 차감에서 DB 재고를 다시 읽어야 한다")
+    void given_pending_when_invalidate_then_flushes_before_reload() {
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10)).willReturn(Optional.of(2));
+        engine.tryReserve(1L, 3);
+
+        engine.invalidate(1L);
+
+        verify(productRepository).applyStockDelta(1L, 3);
+        assertThat(engine.trackedProducts()).isZero();
+        assertThat(engine.tryReserve(1L, 3)).isFalse(); // 수정된 DB 재고 2 기준
+        assertThat(engine.tryReserve(1L, 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("invalidate 중 반영에 실패하면 차감량을 유지하고 예외를 던져야 한다")
+    void given_flush_failure_when_invalidate_then_keeps_pending_and_throws() {
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+        engine.tryReserve(1L, 3);
+        given(productRepository.applyStockDelta(1L, 3)).willThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> engine.invalidate(1L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(engine.pendingDelta()).isEqualTo(3);
+        assertThat(engine.trackedProducts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flush에 실패하면 차감량을 되돌려 놓고 다음 flush에 다시 반영해야 한다")
+    void given_flush_failure_then_retries_on_next_flush() {
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+        engine.tryReserve(1L, 4);
+        given(productRepository.applyStockDelta(1L, 4)).willThrow(new IllegalStateException("db down")).willReturn(1);
+
+        engine.flush();
+        assertThat(engine.pendingDelta()).isEqualTo(4);
+
+        engine.flush();
+        assertThat(engine.pendingDelta()).isZero();
+        assertThat(engine.flushedTotal()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("DB 재고보다 큰 차감량은 반영되지 않고 pending에 남아 정합성 검사 후에도 유지되어야 한다")
+    void given_delta_exceeds_db_stock_when_flush_then_keeps_pending() {
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10)).willReturn(Optional.of(3));
+        engine.tryReserve(1L, 5);
+        given(productRepository.applyStockDelta(1L, 5)).willReturn(0);
+
+        engine.flush();
+
+        assertThat(engine.rejectedDeltas()).isEqualTo(1);
+        assertThat(engine.pendingDelta()).isEqualTo(5);
+        assertThat(engine.flushedTotal()).isZero();
+
+        engine.checkConsistency(); // DB 재고 3, 반영되지 못한 차감량 5 -> 메모리 재고 -2
+
+        assertThat(engine.pendingDelta()).isEqualTo(5);
+        assertThat(engine.tryReserve(1L, 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("invalidate 중 차감량이 DB 재고보다 커서 반영되지 않으면 카운터를 유지하고 예외를 던져야 한다")
+    void given_delta_exceeds_db_stock_when_invalidate_then_keeps_counter_and_throws() {
+        given(productRepository.findStockById(1L)).willReturn(Optional.of(10));
+        engine.tryReserve(1L, 5);
+        given(productRepository.applyStockDelta(1L, 5)).willReturn(0);
+
+        assertThatThrownBy(() -> engine.invalidate(1L)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(engine.pendingDelta()).isEqualTo(5);
+        assertThat(engine.trackedProducts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("0 이하의 수량으로 차감하면 재고가 늘어나지 않고 예외가 발생해야 한다")
+    void given_non_positive_quantity_when_try_reserve_then_throws() {
+        assertThatThrownBy(() -> engine.tryReserve(1L, -2)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.trackedProducts()).isZero();
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 flush해도 DB를 갱신하지 않아야 한다")
+    void given_disabled_when_flush_then_does_nothing() {
+        StockReservationEngine disabled = new StockReservationEngine(productRepository, mock(PlatformTransactionManager.class), false);
+
+        disabled.flush();
+
+        verify(productRepository, never()).applyStockDelta(anyLong(), anyInt());
+    }
+}
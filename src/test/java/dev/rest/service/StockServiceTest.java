@@ -0,0 +1,141 @@
+package dev.rest.service;
+
+import dev.rest.dto.StockReservationItem;
+import dev.rest.exception.InsufficientStockException;
+import dev.rest.exception.InvalidStockQuantityException;
+import dev.rest.exception.ProductNotFoundException;
+import dev.rest.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StockServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private StockReservationEngine stockReservationEngine;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @InjectMocks
+    StockService stockService;
+
+    @Test
+    @DisplayName("재고가 충분하면 차감된 수량이 반환되어야 한다")
+    void given_enough_stock_when_reserve_then_returns_reserved_item() {
+        given(productRepository.decreaseStock(1L, 2)).willReturn(1);
+
+        StockReservationItem reserved = stockService.reserve(1L, 2);
+
+        assertThat(reserved.productId()).isEqualTo(1L);
+        assertThat(reserved.quantity()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 InsufficientStockException이 발생해야 한다")
+    void given_not_enough_stock_when_reserve_then_throws_insufficient_stock() {
+        given(productRepository.decreaseStock(1L, 10)).willReturn(0);
+        given(productRepository.existsById(1L)).willReturn(true);
+
+        assertThatThrownBy(() -> stockService.reserve(1L, 10))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessage("재고가 부족합니다.");
+    }
+
+    @Test
+    @DisplayName("상품이 없으면 ProductNotFoundException이 발생해야 한다")
+    void given_invalid_id_when_reserve_then_throws_product_not_found() {
+        given(productRepository.decreaseStock(99L, 1)).willReturn(0);
+        given(productRepository.existsById(99L)).willReturn(false);
+
+        assertThatThrownBy(() -> stockService.reserve(99L, 1))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("여러 상품을 차감할 때 같은 상품은 합산하고 id 순서로 차감해야 한다")
+    void given_cart_items_when_reserve_all_then_merged_and_ordered_by_id() {
+        given(productRepository.decreaseStock(1L, 1)).willReturn(1);
+        given(productRepository.decreaseStock(3L, 5)).willReturn(1);
+
+        List<StockReservationItem> reserved = stockService.reserveAll(List.of(
+                new StockReservationItem(3L, 2),
+                new StockReservationItem(1L, 1),
+                new StockReservationItem(3L, 3)));
+
+        InOrder order = inOrder(productRepository);
+        order.verify(productRepository).decreaseStock(1L, 1);
+        order.verify(productRepository).decreaseStock(3L, 5);
+        assertThat(reserved).containsExactly(new StockReservationItem(1L, 1), new StockReservationItem(3L, 5));
+    }
+
+    @Test
+    @DisplayName("메모리 재고 엔진 사용 중 일부 상품의 재고가 부족하면 먼저 차감한 수량을 되돌려야 한다")
+    void given_stock_engine_when_reserve_all_fails_then_releases_reserved() {
+        given(stockReservationEngine.isEnabled()).willReturn(true);
+        given(stockReservationEngine.tryReserve(1L, 1)).willReturn(true);
+        given(stockReservationEngine.tryReserve(2L, 4)).willReturn(false);
+
+        assertThatThrownBy(() -> stockService.reserveAll(List.of(
+                new StockReservationItem(1L, 1),
+                new StockReservationItem(2L, 4))))
+                .isInstanceOf(InsufficientStockException.class);
+
+        verify(stockReservationEngine).release(1L, 1);
+        verify(productRepository, never()).decreaseStock(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("메모리 재고 엔진 사용 중에는 트랜잭션을 열지 않아야 한다")
+    void given_stock_engine_when_reserve_then_does_not_open_transaction() {
+        given(stockReservationEngine.isEnabled()).willReturn(true);
+        given(stockReservationEngine.tryReserve(1L, 2)).willReturn(true);
+
+        stockService.reserve(1L, 2);
+
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+        verify(productDetailCache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("같은 상품 수량의 합계가 int 범위나 상한을 넘으면 차감하지 않고 InvalidStockQuantityException이 발생해야 한다")
+    void given_overflowing_duplicate_items_when_reserve_all_then_throws_invalid_quantity() {
+        assertThatThrownBy(() -> stockService.reserveAll(List.of(
+                new StockReservationItem(1L, Integer.MAX_VALUE),
+                new StockReservationItem(1L, Integer.MAX_VALUE))))
+                .isInstanceOf(InvalidStockQuantityException.class);
+        assertThatThrownBy(() -> stockService.reserveAll(List.of(
+                new StockReservationItem(1L, StockReservationItem.MAX_QUANTITY),
+                new StockReservationItem(1L, 1))))
+                .isInstanceOf(InvalidStockQuantityException.class);
+
+        verify(productRepository, never()).decreaseStock(anyLong(), anyInt());
+    }
+}
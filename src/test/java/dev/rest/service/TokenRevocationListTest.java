@@ -0,0 +1,95 @@
+package dev.rest.service;
+
+import dev.rest.model.RevokedToken;
+import dev.rest.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, 1_000, 0.01);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 DB에 저장되고 바로 폐기된 것으로 판정되어야 한다")
+    void given_revoked_token_when_is_revoked_then_true() {
+        tokenRevocationList.revoke("jti-1", Instant.now().plusSeconds(600));
+
+        assertThat(tokenRevocationList.isRevoked("jti-1")).isTrue();
+        assertThat(tokenRevocationList.isRevoked("jti-2")).isFalse();
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 폐기 목록에 추가하지 않아야 한다")
+    void given_expired_token_when_revoke_then_ignored() {
+        tokenRevocationList.revoke("jti-1", Instant.now().minusSeconds(1));
+
+        assertThat(tokenRevocationList.isRevoked("jti-1")).isFalse();
+        verify(revokedTokenRepository, never()).save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 추가한 행은 증분 갱신 후 폐기된 것으로 판정되어야 한다")
+    void given_new_rows_when_refresh_then_revoked() {
+        RevokedToken row = RevokedToken.of("jti-remote", Instant.now().plusSeconds(600));
+        ReflectionTestUtils.setField(row, "id", 1L);
+        given(revokedTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderById(eq(0L), any(Instant.class), any(Limit.class)))
+                .willReturn(List.of(row));
+
+        assertThat(tokenRevocationList.isRevoked("jti-remote")).isFalse();
+
+        tokenRevocationList.refresh();
+
+        assertThat(tokenRevocationList.isRevoked("jti-remote")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성하면 만료된 항목은 제거되고 유효한 항목은 유지되어야 한다")
+    void given_expired_entries_when_rebuild_then_only_live_entries_remain() {
+        given(revokedTokenRepository.findByIdGreaterThanAndExpiresAtAfterOrderById(anyLong(), any(Instant.class), any(Limit.class)))
+                .willReturn(List.of());
+        tokenRevocationList.revoke("jti-live", Instant.now().plusSeconds(600));
+        tokenRevocationList.revoke("jti-expiring", Instant.now().plusMillis(50));
+
+        await(100);
+        tokenRevocationList.rebuild();
+
+        assertThat(tokenRevocationList.isRevoked("jti-live")).isTrue();
+        assertThat(tokenRevocationList.isRevoked("jti-expiring")).isFalse();
+        assertThat(tokenRevocationList.size()).isEqualTo(1);
+    }
+
+    private static void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
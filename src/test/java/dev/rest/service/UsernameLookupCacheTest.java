@@ -0,0 +1,91 @@
+package dev.rest.service;
+
+import dev.rest.repository.UserRepository;
+import dev.rest.repository.UsernameEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class UsernameLookupCacheTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UsernameLookupCache usernameLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        usernameLookupCache = new UsernameLookupCache(userRepository, 1_000, 0.01, 100);
+    }
+
+    @Test
+    @DisplayName("적재 전에는 어떤 사용자명도 없다고 판단하지 않아야 한다")
+    void given_not_loaded_when_is_definitely_absent_then_false() {
+        assertThat(usernameLookupCache.isDefinitelyAbsent("anyone")).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재한 사용자명과 가입한 사용자명은 있다고, 나머지는 확실히 없다고 판단해야 한다")
+    void given_loaded_usernames_when_is_definitely_absent_then_only_unknown_absent() {
+        given(userRepository.findUsernamesAfter(eq(0L), any(Limit.class))).willReturn(List.of(entry(1L, "testuser")));
+
+        usernameLookupCache.load();
+        usernameLookupCache.add("newuser");
+
+        assertThat(usernameLookupCache.isDefinitelyAbsent("testuser")).isFalse();
+        assertThat(usernameLookupCache.isDefinitelyAbsent("newuser")).isFalse();
+        assertThat(usernameLookupCache.isDefinitelyAbsent("unknown")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 가입한 사용자명은 증분 갱신 후 있다고 판단해야 한다")
+    void given_remote_signup_when_refresh_then_present() {
+        given(userRepository.findUsernamesAfter(anyLong(), any(Limit.class)))
+                .willReturn(List.of(entry(1L, "testuser")))
+                .willReturn(List.of(entry(1L, "testuser"), entry(2L, "remoteuser")));
+
+        usernameLookupCache.load();
+        assertThat(usernameLookupCache.isDefinitelyAbsent("remoteuser")).isTrue();
+
+        usernameLookupCache.refresh();
+
+        assertThat(usernameLookupCache.isDefinitelyAbsent("remoteuser")).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용 중으로 확인된 사용자명은 양성 캐시에서 바로 판단해야 한다")
+    void given_marked_taken_when_is_known_taken_then_true() {
+        usernameLookupCache.markTaken("testuser");
+
+        assertThat(usernameLookupCache.isKnownTaken("testuser")).isTrue();
+        assertThat(usernameLookupCache.isKnownTaken("TestUser")).isTrue(); // MySQL collation과 같이 대소문자 무시
+        assertThat(usernameLookupCache.isKnownTaken("newuser")).isFalse();
+    }
+
+    private static UsernameEntry entry(Long id, String username) {
+        return new UsernameEntry() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getUsername() {
+                return username;
+            }
+        };
+    }
+}